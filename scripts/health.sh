@@ -9,16 +9,16 @@ IDLE_PORT=$(find_idle_port)
 
 echo "> Health Check Start!"
 echo "> IDLE_PORT: $IDLE_PORT"
-echo "> curl -s http://127.0.0.1:$IDLE_PORT/profile"
+echo "> curl -s http://127.0.0.1:$IDLE_PORT/readyz"
 sleep 10
 
 for RETRY_COUNT in {1..10}
 do
-  RESPONSE=$(curl -s http://127.0.0.1:${IDLE_PORT}/profile)
-  UP_COUNT=$(echo ${RESPONSE} | grep 'real' | wc -l)
+  RESPONSE=$(curl -s http://127.0.0.1:${IDLE_PORT}/readyz)
+  UP_COUNT=$(echo ${RESPONSE} | grep '"status":"UP"' | wc -l)
 
-  if [ ${UP_COUNT} -ge 1 ] # Nginx와 연결되지 않은 포트로 스프링 부트가 잘 실행되었는지 체크
-  then # $up_count >= 1 ("real" 문자열이 있는지 검증)
+  if [ ${UP_COUNT} -ge 1 ] # Nginx와 연결되지 않은 포트의 스프링 부트가 요청을 받을 준비(DB 연결 포함)가 되었는지 체크
+  then # $up_count >= 1 (readiness 상태가 UP인지 검증)
     echo "> Health Check 성공"
     switch_proxy # 잘 실행되어 있다면 프록시 설정을 변경
     break
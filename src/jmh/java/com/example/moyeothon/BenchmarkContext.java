@@ -0,0 +1,31 @@
+package com.example.moyeothon;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+// 벤치마크용 애플리케이션 컨텍스트 (인메모리 H2, 더미 OAuth 설정)
+public final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    public static ConfigurableApplicationContext start(String databaseName) {
+        return new SpringApplicationBuilder(MoyeothonApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "jwt.secret=benchmark-secret-benchmark-secret-benchmark-secret-benchmark-secret",
+                        "swagger.server-url=http://localhost",
+                        "spring.security.oauth2.client.registration.kakao.client-id=benchmark",
+                        "spring.security.oauth2.client.registration.kakao.client-secret=benchmark",
+                        "spring.security.oauth2.client.registration.kakao.redirect-uri=http://localhost/kakao",
+                        "spring.security.oauth2.client.registration.google.client-id=benchmark",
+                        "spring.security.oauth2.client.registration.google.client-secret=benchmark",
+                        "spring.security.oauth2.client.registration.google.redirect-uri=http://localhost/google",
+                        "logging.level.root=WARN")
+                .run();
+    }
+}
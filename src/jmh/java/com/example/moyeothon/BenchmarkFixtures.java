@@ -0,0 +1,86 @@
+package com.example.moyeothon;
+
+import com.example.moyeothon.Config.JWT.JwtTokenProvider;
+import com.example.moyeothon.Config.JWT.TokenStore;
+import com.example.moyeothon.Entity.BucketlistEntity;
+import com.example.moyeothon.Entity.MessageEntity;
+import com.example.moyeothon.Entity.UserEntity;
+import com.example.moyeothon.Enum.MessageStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+// 컨텍스트 없이 실행하는 벤치마크용 엔티티, ObjectMapper, JwtTokenProvider
+public final class BenchmarkFixtures {
+
+    public static final String PASSWORD_HASH = "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z6ZQ8W7jXxv6k5h8nYp6Q0a.";
+    public static final String JWT_SECRET = "benchmark-secret-benchmark-secret-benchmark-secret-benchmark-secret";
+
+    private BenchmarkFixtures() {
+    }
+
+    // MVC 응답 변환과 같은 설정 (날짜는 ISO 문자열)
+    public static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    // 필드 주입 대상에 설정값과 의존성을 직접 넣어 초기화
+    public static JwtTokenProvider jwtTokenProvider(TokenStore tokenStore) throws ReflectiveOperationException {
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider();
+        setField(jwtTokenProvider, "secret", JWT_SECRET);
+        setField(jwtTokenProvider, "expiration", 1800000L);
+        setField(jwtTokenProvider, "tokenStore", tokenStore);
+        setField(jwtTokenProvider, "meterRegistry", new SimpleMeterRegistry());
+        jwtTokenProvider.init();
+        return jwtTokenProvider;
+    }
+
+    public static void setField(Object target, String name, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+
+    public static UserEntity user(Long id, String uid, String nickname) {
+        return new UserEntity(id, uid, PASSWORD_HASH, "홍길동", nickname, uid + "@example.com", "normal",
+                new HashSet<>(), new HashSet<>());
+    }
+
+    public static BucketlistEntity bucket(Long id, UserEntity owner) {
+        return new BucketlistEntity(id, owner, "버킷리스트 " + id, "올해 안에 꼭 해보고 싶은 일", true);
+    }
+
+    // 두 유저가 버킷리스트 두 개에 번갈아 주고받은 쪽지 (최신순)
+    public static List<MessageEntity> conversation(int size) {
+        UserEntity me = user(1L, "me", "나");
+        UserEntity other = user(2L, "other", "상대");
+        List<BucketlistEntity> buckets = List.of(bucket(1L, me), bucket(2L, other));
+        List<MessageEntity> messages = new ArrayList<>(size);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < size; i++) {
+            boolean fromMe = i % 2 == 0;
+            messages.add(new MessageEntity((long) i, "쪽지 내용입니다 " + i, now.minusMinutes(i),
+                    fromMe ? me : other, fromMe ? other : me, buckets.get(i % buckets.size()), MessageStatus.읽음));
+        }
+        return messages;
+    }
+
+    // 작성자 size / 4명이 나눠 쓴 공개 버킷리스트 (최신순)
+    public static List<BucketlistEntity> publicBuckets(int size) {
+        List<UserEntity> owners = new ArrayList<>();
+        for (int i = 0; i < Math.max(1, size / 4); i++) {
+            owners.add(user((long) i, "user" + i, "닉네임" + i));
+        }
+        List<BucketlistEntity> buckets = new ArrayList<>(size);
+        for (int i = size; i > 0; i--) {
+            buckets.add(bucket((long) i, owners.get(i % owners.size())));
+        }
+        return buckets;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.moyeothon.Config.JWT;
+
+import com.example.moyeothon.BenchmarkFixtures;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// 로그인마다 실행되는 토큰 발급과 인증 요청마다 실행되는 토큰 검증
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtTokenBenchmark {
+
+    private static final String UID = "benchmark-user";
+
+    private JwtTokenProvider issuer;
+    private JwtTokenProvider validator;
+    private String token;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        // 발급은 토큰 저장소 쓰기를 제외한 서명 비용만 측정
+        issuer = BenchmarkFixtures.jwtTokenProvider(new NoOpTokenStore());
+        validator = BenchmarkFixtures.jwtTokenProvider(new InMemoryTokenStore());
+        token = validator.generateToken(UID);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return issuer.generateToken(UID);
+    }
+
+    // 필터에서 쓰는 검증 경로 측정
+    @Benchmark
+    public Claims validateAndGetClaims() {
+        return validator.validateAndGetClaims(token);
+    }
+
+    private static final class NoOpTokenStore implements TokenStore {
+        @Override
+        public void replaceActiveToken(String uid, String jti, long expiresAt) {
+        }
+
+        @Override
+        public void invalidate(String uid) {
+        }
+
+        @Override
+        public String findActiveJti(String uid) {
+            return null;
+        }
+
+        @Override
+        public boolean isRevoked(String jti) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.moyeothon.Config.JWT;
+
+import com.example.moyeothon.BenchmarkFixtures;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+// 요청당 3회 파싱하던 기존 검증 경로와 한 번만 파싱하는 검증 경로 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtValidationBenchmark {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private Key key;
+    private String token;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        jwtTokenProvider = BenchmarkFixtures.jwtTokenProvider(new InMemoryTokenStore());
+        key = Keys.hmacShaKeyFor(BenchmarkFixtures.JWT_SECRET.getBytes());
+        token = jwtTokenProvider.generateToken("benchmark-user");
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean legacyPath_1thread() {
+        return legacyValidate(token);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Claims parseOnce_1thread() {
+        return jwtTokenProvider.validateAndGetClaims(token);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean legacyPath_8threads() {
+        return legacyValidate(token);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Claims parseOnce_8threads() {
+        return jwtTokenProvider.validateAndGetClaims(token);
+    }
+
+    @Benchmark
+    @Threads(32)
+    public boolean legacyPath_32threads() {
+        return legacyValidate(token);
+    }
+
+    @Benchmark
+    @Threads(32)
+    public Claims parseOnce_32threads() {
+        return jwtTokenProvider.validateAndGetClaims(token);
+    }
+
+    // 기존 JwtAuthenticationFilter 경로 재현 : getUidFromToken -> validateToken -> isTokenExpired, 매번 새 파서 생성
+    private boolean legacyValidate(String token) {
+        String uid = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().getSubject();
+        String userUid = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().getSubject();
+        Date expiration = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().getExpiration();
+        return userUid.equals(uid) && !expiration.before(new Date());
+    }
+}
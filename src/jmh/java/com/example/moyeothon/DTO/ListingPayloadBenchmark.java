@@ -0,0 +1,63 @@
+package com.example.moyeothon.DTO;
+
+import com.example.moyeothon.BenchmarkFixtures;
+import com.example.moyeothon.DTO.BucketDto.FeedResponseDto;
+import com.example.moyeothon.DTO.BucketDto.ResponseDto;
+import com.example.moyeothon.Entity.BucketlistEntity;
+import com.example.moyeothon.Entity.MessageEntity;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// 목록 응답의 엔티티 -> DTO 변환과 Jackson 직렬화를 각각 측정
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ListingPayloadBenchmark {
+
+    @Param({"20", "100"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<MessageEntity> messages;
+    private List<BucketlistEntity> buckets;
+    private List<MessageDTO> messageDTOs;
+    private FeedResponseDto feed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = BenchmarkFixtures.objectMapper();
+        messages = BenchmarkFixtures.conversation(size);
+        buckets = BenchmarkFixtures.publicBuckets(size);
+        messageDTOs = mapMessages();
+        feed = new FeedResponseDto(mapBuckets(), (long) size, true);
+    }
+
+    @Benchmark
+    public List<MessageDTO> mapMessages() {
+        return messages.stream()
+                .map(MessageDTO::entityToDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<ResponseDto> mapBuckets() {
+        return buckets.stream()
+                .map(ResponseDto::entityToDto)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public byte[] serializeMessages() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(messageDTOs);
+    }
+
+    @Benchmark
+    public byte[] serializeFeed() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(feed);
+    }
+}
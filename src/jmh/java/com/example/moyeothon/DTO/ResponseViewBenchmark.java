@@ -0,0 +1,78 @@
+package com.example.moyeothon.DTO;
+
+import com.example.moyeothon.BenchmarkFixtures;
+import com.example.moyeothon.Entity.MessageEntity;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 대화 쪽지 한 페이지의 DTO 변환 + JSON 직렬화 비용 비교
+// legacyFull : 기존 응답 (유저 3명분 중첩 + 비밀번호 해시), full : 비밀번호 해시 제외, compact : id 참조 + 유저, 버킷리스트 중복 제거
+// 응답 크기(byte)는 보조 지표 responseBytes로 결과 파일에 함께 기록
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseViewBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private ObjectMapper legacyObjectMapper;
+    private List<MessageEntity> page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = BenchmarkFixtures.objectMapper();
+        legacyObjectMapper = objectMapper.copy().addMixIn(UserDTO.class, LegacyUserDTO.class);
+        page = BenchmarkFixtures.conversation(pageSize);
+    }
+
+    @Benchmark
+    public byte[] legacyFull(PayloadSize payloadSize) throws JsonProcessingException {
+        return payloadSize.record(legacyFullBytes());
+    }
+
+    @Benchmark
+    public byte[] full(PayloadSize payloadSize) throws JsonProcessingException {
+        return payloadSize.record(objectMapper.writeValueAsBytes(MessagePageDTO.of(page, null, false)));
+    }
+
+    @Benchmark
+    public byte[] compact(PayloadSize payloadSize) throws JsonProcessingException {
+        return payloadSize.record(objectMapper.writeValueAsBytes(CompactMessagePageDTO.of(page, null, false)));
+    }
+
+    private byte[] legacyFullBytes() throws JsonProcessingException {
+        MessagePageDTO dto = MessagePageDTO.of(page, null, false);
+        // 기존 UserDTO.entityToDto는 비밀번호 해시를 복사했음
+        for (MessageDTO message : dto.getMessages()) {
+            message.getSender().setPassword(BenchmarkFixtures.PASSWORD_HASH);
+            message.getReceiver().setPassword(BenchmarkFixtures.PASSWORD_HASH);
+            message.getBucketList().getUser().setPassword(BenchmarkFixtures.PASSWORD_HASH);
+        }
+        return legacyObjectMapper.writeValueAsBytes(dto);
+    }
+
+    // 응답 크기 보조 지표 (호출마다 같은 크기이므로 누적하지 않고 마지막 값으로 덮어씀)
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+        public long responseBytes;
+
+        byte[] record(byte[] body) {
+            responseBytes = body.length;
+            return body;
+        }
+    }
+
+    // 기존 응답 재현용 : 비밀번호도 직렬화
+    private abstract static class LegacyUserDTO {
+        @JsonProperty(access = JsonProperty.Access.READ_WRITE)
+        private String password;
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.moyeothon.Service;
+
+import com.example.moyeothon.BenchmarkContext;
+import com.example.moyeothon.Config.JWT.UserPrincipal;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 안 읽은 쪽지 50건이 있는 대화방을 열 때 : 단건 읽음 처리 50회 vs 일괄 읽음 처리 1회
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BulkReadBenchmark {
+
+    private static final int UNREAD_COUNT = 50;
+    private static final String UID = "reader";
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbcTemplate;
+    private MessageService messageService;
+    private UserPrincipal principal;
+    private Long bucketId;
+    private List<Long> messageIds;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = BenchmarkContext.start("bulk-read");
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        messageService = context.getBean(MessageService.class);
+
+        jdbcTemplate.update("INSERT INTO users (uid, nickname, provider) VALUES (?, ?, ?)", UID, UID, "normal");
+        Long userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE uid = ?", Long.class, UID);
+        principal = new UserPrincipal(userId, UID, UID);
+        jdbcTemplate.update("INSERT INTO bucketlist_entity (user_id, title, content, is_public) VALUES (?, ?, ?, ?)",
+                userId, "제목", "내용", true);
+        bucketId = jdbcTemplate.queryForObject("SELECT bucket_id FROM bucketlist_entity WHERE user_id = ?", Long.class, userId);
+
+        // 단건 경로(발신자 기준)와 일괄 경로(수신자 기준)의 소유자 확인을 모두 통과하도록 자기 자신에게 보낸 쪽지로 구성
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(UNREAD_COUNT);
+        for (int i = 0; i < UNREAD_COUNT; i++) {
+            rows.add(new Object[]{"쪽지 " + i, now, userId, userId, bucketId, "안읽음"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO messages (content, create_time, sender_id, receiver_id, bucket_list_id, status) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", rows);
+        messageIds = jdbcTemplate.queryForList("SELECT id FROM messages ORDER BY id", Long.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void markAllUnread() {
+        jdbcTemplate.update("UPDATE messages SET status = '안읽음'");
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public int perMessage() {
+        for (Long messageId : messageIds) {
+            messageService.readMessage(messageId, UID, principal);
+        }
+        return messageIds.size();
+    }
+
+    @Benchmark
+    public int bulkByIds() {
+        return messageService.readMessages(UID, messageIds, principal).getUpdatedCount();
+    }
+
+    @Benchmark
+    public int bulkByBucket() {
+        return messageService.readMessagesInBucket(UID, bucketId, principal).getUpdatedCount();
+    }
+}
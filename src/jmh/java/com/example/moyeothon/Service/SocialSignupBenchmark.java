@@ -0,0 +1,38 @@
+package com.example.moyeothon.Service;
+
+import com.example.moyeothon.Entity.UserEntity;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 소셜 로그인 첫 가입 시 고정 문자열을 BCrypt로 해싱하던 기존 방식과 비밀번호 없이 생성하는 방식 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class SocialSignupBenchmark {
+
+    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Benchmark
+    public UserEntity legacyHashedSignup() {
+        String uid = String.valueOf(sequence.incrementAndGet());
+        return UserEntity.builder()
+                .uid(uid)
+                .name("카카오사용자")
+                .nickname("멋진사자")
+                .email(uid + "@example.com")
+                .password(passwordEncoder.encode("oauth2user"))
+                .provider("kakao")
+                .build();
+    }
+
+    @Benchmark
+    public UserEntity passwordlessSignup() {
+        String uid = String.valueOf(sequence.incrementAndGet());
+        return UserService.newSocialUser(uid, "카카오사용자", "멋진사자", uid + "@example.com", "kakao");
+    }
+}
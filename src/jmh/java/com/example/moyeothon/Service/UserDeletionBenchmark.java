@@ -0,0 +1,126 @@
+package com.example.moyeothon.Service;
+
+import com.example.moyeothon.BenchmarkContext;
+import com.example.moyeothon.Entity.BucketlistEntity;
+import com.example.moyeothon.Entity.MessageEntity;
+import com.example.moyeothon.Entity.UserEntity;
+import com.example.moyeothon.Repository.BucketRepository;
+import com.example.moyeothon.Repository.MessageRepository;
+import com.example.moyeothon.Repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 쪽지 10만 건(여러 유저와 주고받은 쪽지, 버킷리스트에 달린 다른 유저끼리의 쪽지 포함)을 가진 계정의 탈퇴 처리 시간 : 집합 단위 삭제 파이프라인 vs 엔티티 단위 삭제
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class UserDeletionBenchmark {
+
+    private static final int MESSAGE_COUNT = 100_000;
+    private static final int OTHER_MESSAGE_COUNT = 200_000;
+    private static final int PEER_COUNT = 50;
+    private static final String UID = "heavy-user";
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbcTemplate;
+    private UserDeletionService userDeletionService;
+    private UserRepository userRepository;
+    private BucketRepository bucketRepository;
+    private MessageRepository messageRepository;
+    private TransactionTemplate transactionTemplate;
+    private Long userId;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = BenchmarkContext.start("user-deletion");
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        userDeletionService = context.getBean(UserDeletionService.class);
+        userRepository = context.getBean(UserRepository.class);
+        bucketRepository = context.getBean(BucketRepository.class);
+        messageRepository = context.getBean(MessageRepository.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    @Setup(Level.Invocation)
+    public void seedAccount() {
+        jdbcTemplate.update("INSERT INTO users (uid, nickname, provider) VALUES (?, ?, ?)", UID, UID, "normal");
+        userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE uid = ?", Long.class, UID);
+        Long bucketId = insertBucket(userId);
+        Long[] peerIds = new Long[PEER_COUNT];
+        Long[] peerBucketIds = new Long[PEER_COUNT];
+        for (int p = 0; p < PEER_COUNT; p++) {
+            String peer = "peer-" + p;
+            jdbcTemplate.update("INSERT INTO users (uid, nickname, provider) VALUES (?, ?, ?)", peer, peer, "normal");
+            peerIds[p] = jdbcTemplate.queryForObject("SELECT id FROM users WHERE uid = ?", Long.class, peer);
+            peerBucketIds[p] = insertBucket(peerIds[p]);
+        }
+
+        // 탈퇴 유저가 주고받은 쪽지 + 다른 유저끼리 주고받은 쪽지 (삭제 대상이 아닌 행도 섞여 있어야 인덱스 효과가 드러남)
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(MESSAGE_COUNT + OTHER_MESSAGE_COUNT);
+        for (int i = 0; i < MESSAGE_COUNT; i++) {
+            Long peerId = peerIds[i % PEER_COUNT];
+            Long peerBucketId = peerBucketIds[i % PEER_COUNT];
+            switch (i % 3) {
+                case 0 -> rows.add(new Object[]{"쪽지 " + i, now, peerId, userId, bucketId, "안읽음"});
+                case 1 -> rows.add(new Object[]{"쪽지 " + i, now, userId, peerId, peerBucketId, "안읽음"});
+                default -> rows.add(new Object[]{"쪽지 " + i, now, peerId, peerIds[(i + 1) % PEER_COUNT], bucketId, "안읽음"});
+            }
+        }
+        for (int i = 0; i < OTHER_MESSAGE_COUNT; i++) {
+            int sender = i % PEER_COUNT;
+            int receiver = (i + 1) % PEER_COUNT;
+            rows.add(new Object[]{"쪽지 " + i, now, peerIds[sender], peerIds[receiver], peerBucketIds[receiver], "안읽음"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO messages (content, create_time, sender_id, receiver_id, bucket_list_id, status) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    private Long insertBucket(Long ownerId) {
+        jdbcTemplate.update("INSERT INTO bucketlist_entity (user_id, title, content, is_public) VALUES (?, ?, ?, ?)",
+                ownerId, "제목", "내용", true);
+        return jdbcTemplate.queryForObject("SELECT max(bucket_id) FROM bucketlist_entity WHERE user_id = ?", Long.class, ownerId);
+    }
+
+    @TearDown(Level.Invocation)
+    public void cleanUp() {
+        jdbcTemplate.update("DELETE FROM messages");
+        jdbcTemplate.update("DELETE FROM bucketlist_entity");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public void setBasedPipeline() {
+        userDeletionService.deleteAccount(userId);
+    }
+
+    // 기존 방식 재현 : 엔티티를 모두 불러온 뒤 하나씩 삭제
+    @Benchmark
+    public void entityByEntity() {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<MessageEntity> messages = messageRepository.findAllWithAssociationsByParticipantUid(UID);
+            messageRepository.deleteAll(messages);
+            List<BucketlistEntity> buckets = bucketRepository.findByUser_Uid(UID);
+            buckets.forEach(bucket -> messageRepository.deleteByBucketListId(bucket.getId()));
+            bucketRepository.deleteAll(buckets);
+            UserEntity user = userRepository.findByUid(UID);
+            userRepository.delete(user);
+        });
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -22,6 +23,16 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(e.getStatusCode()).body(errorResponse);
     }
 
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<Map<String, Object>> handleResponseStatus(ResponseStatusException e) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("status", e.getStatusCode().value());
+        errorResponse.put("error", e.getStatusCode().toString());
+        errorResponse.put("message", e.getReason());
+
+        return ResponseEntity.status(e.getStatusCode()).headers(e.getHeaders()).body(errorResponse);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, Object>> handleGeneralException(Exception e) {
         Map<String, Object> errorResponse = new HashMap<>();
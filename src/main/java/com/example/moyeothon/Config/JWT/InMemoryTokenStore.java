@@ -0,0 +1,45 @@
+package com.example.moyeothon.Config.JWT;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// JVM 메모리에만 토큰 상태를 보관하는 기본 구현 (노드 재시작 시 초기화됨)
+@Component
+@ConditionalOnProperty(name = "jwt.token-store.type", havingValue = "memory", matchIfMissing = true)
+public class InMemoryTokenStore implements TokenStore {
+
+    // 활성화된 토큰을 저장하는 맵 (uid -> 활성 토큰)
+    private final Map<String, ActiveToken> activeTokens = new ConcurrentHashMap<>();
+    // 무효화된 토큰의 jti를 만료 시각까지 보관하는 저장소
+    private final TokenRevocationStore revocationStore = new TokenRevocationStore();
+
+    @Override
+    public void replaceActiveToken(String uid, String jti, long expiresAt) {
+        ActiveToken previous = activeTokens.put(uid, new ActiveToken(jti, expiresAt));
+        if (previous != null) {
+            revocationStore.revoke(previous.jti(), previous.expiresAt());
+        }
+    }
+
+    @Override
+    public void invalidate(String uid) {
+        ActiveToken previous = activeTokens.remove(uid);
+        if (previous != null) {
+            revocationStore.revoke(previous.jti(), previous.expiresAt());
+        }
+    }
+
+    @Override
+    public String findActiveJti(String uid) {
+        ActiveToken activeToken = activeTokens.get(uid);
+        return activeToken != null ? activeToken.jti() : null;
+    }
+
+    @Override
+    public boolean isRevoked(String jti) {
+        return revocationStore.isRevoked(jti);
+    }
+}
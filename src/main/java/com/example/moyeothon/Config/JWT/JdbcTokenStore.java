@@ -0,0 +1,210 @@
+package com.example.moyeothon.Config.JWT;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 기존 데이터소스에 토큰 상태를 저장하여 블루/그린 노드 간 공유하고 재시작 후에도 유지하는 구현
+// 쓰기는 모아서 일괄 반영하고, 조회는 짧은 TTL의 니어 캐시로 처리
+@Component
+@ConditionalOnProperty(name = "jwt.token-store.type", havingValue = "jdbc")
+public class JdbcTokenStore implements TokenStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdbcTokenStore.class);
+    // 활성 토큰이 없음을 나타내는 값 (삭제 예정, 부재 캐시)
+    private static final ActiveToken NONE = new ActiveToken(null, 0L);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // 아직 DB에 반영되지 않은 쓰기 (uid별, jti별로 마지막 값만 유지)
+    private final Map<String, ActiveToken> pendingActive = new ConcurrentHashMap<>();
+    private final Map<String, Long> pendingRevoked = new ConcurrentHashMap<>();
+
+    // 이 노드에서 무효화한 토큰
+    private final TokenRevocationStore localRevocations = new TokenRevocationStore();
+    // DB 조회 결과 니어 캐시
+    private final Cache<String, ActiveToken> activeCache;
+    private final Cache<String, Boolean> revokedCache;
+
+    public JdbcTokenStore(JdbcTemplate jdbcTemplate,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${jwt.token-store.near-cache-ttl:2s}") Duration nearCacheTtl,
+                          @Value("${jwt.token-store.near-cache-size:10000}") long nearCacheSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.activeCache = Caffeine.newBuilder()
+                .maximumSize(nearCacheSize)
+                .expireAfterWrite(nearCacheTtl)
+                .build();
+        this.revokedCache = Caffeine.newBuilder()
+                .maximumSize(nearCacheSize)
+                .expireAfterWrite(nearCacheTtl)
+                .build();
+    }
+
+    @Override
+    public void replaceActiveToken(String uid, String jti, long expiresAt) {
+        revokeCurrent(uid);
+        ActiveToken activeToken = new ActiveToken(jti, expiresAt);
+        pendingActive.put(uid, activeToken);
+        activeCache.put(uid, activeToken);
+    }
+
+    @Override
+    public void invalidate(String uid) {
+        revokeCurrent(uid);
+        pendingActive.put(uid, NONE);
+        activeCache.put(uid, NONE);
+    }
+
+    @Override
+    public String findActiveJti(String uid) {
+        return activeCache.get(uid, this::loadActiveToken).jti();
+    }
+
+    @Override
+    public boolean isRevoked(String jti) {
+        if (localRevocations.isRevoked(jti) || pendingRevoked.containsKey(jti)) {
+            return true;
+        }
+        return revokedCache.get(jti, this::loadRevoked);
+    }
+
+    // 모아둔 쓰기를 한 트랜잭션에서 일괄 반영
+    @Scheduled(fixedDelayString = "${jwt.token-store.flush-interval-ms:200}")
+    public void flush() {
+        Map<String, ActiveToken> active = new HashMap<>(pendingActive);
+        Map<String, Long> revoked = new HashMap<>(pendingRevoked);
+        if (active.isEmpty() && revoked.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> deletes = new ArrayList<>();
+        List<Object[]> inserts = new ArrayList<>();
+        active.forEach((uid, token) -> {
+            deletes.add(new Object[]{uid});
+            if (token.jti() != null) {
+                inserts.add(new Object[]{uid, token.jti(), token.expiresAt()});
+            }
+        });
+        List<Object[]> revocations = new ArrayList<>();
+        revoked.forEach((jti, expiresAt) -> revocations.add(new Object[]{jti, expiresAt}));
+
+        try {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.batchUpdate("DELETE FROM active_tokens WHERE uid = ?", deletes);
+                    jdbcTemplate.batchUpdate("INSERT INTO active_tokens (uid, jti, expires_at) VALUES (?, ?, ?)", inserts);
+                    jdbcTemplate.batchUpdate("INSERT INTO revoked_tokens (jti, expires_at) VALUES (?, ?)", revocations);
+                });
+            } catch (DataIntegrityViolationException e) {
+                // 다른 노드가 같은 jti를 먼저 무효화했거나 같은 uid를 먼저 기록한 경우 : 건별로 멱등하게 다시 반영
+                logger.warn("토큰 상태 일괄 반영 중 키 충돌, 건별로 다시 반영합니다: {}", e.getMessage());
+                writeIndividually(active, revoked);
+            }
+        } catch (RuntimeException e) {
+            // DB 장애 등으로 반영하지 못한 쓰기는 대기열에 남겨두고 다음 주기에 다시 시도
+            logger.error("토큰 상태를 DB에 반영하지 못했습니다: {}", e.getMessage());
+            return;
+        }
+        // 반영하는 사이 새로 들어온 값은 남겨둠
+        active.forEach(pendingActive::remove);
+        revoked.forEach(pendingRevoked::remove);
+    }
+
+    // 한 건씩 반영 (이미 있는 무효화 토큰은 건너뛰고, 활성 토큰은 마지막 값으로 덮어씀)
+    // 그래도 반영할 수 없는 행은 로그만 남기고 버려 뒤의 쓰기까지 막히지 않도록 함
+    private void writeIndividually(Map<String, ActiveToken> active, Map<String, Long> revoked) {
+        active.forEach((uid, token) -> {
+            try {
+                if (token.jti() == null) {
+                    jdbcTemplate.update("DELETE FROM active_tokens WHERE uid = ?", uid);
+                } else if (jdbcTemplate.update("UPDATE active_tokens SET jti = ?, expires_at = ? WHERE uid = ?",
+                        token.jti(), token.expiresAt(), uid) == 0) {
+                    insertActive(uid, token);
+                }
+            } catch (DataIntegrityViolationException e) {
+                logger.error("활성 토큰을 반영하지 못해 버립니다 - uid : {}, 사유 : {}", uid, e.getMessage());
+            }
+        });
+        revoked.forEach((jti, expiresAt) -> {
+            try {
+                jdbcTemplate.update("INSERT INTO revoked_tokens (jti, expires_at) VALUES (?, ?)", jti, expiresAt);
+            } catch (DuplicateKeyException e) {
+                // 다른 노드에서 이미 무효화함
+            } catch (DataIntegrityViolationException e) {
+                logger.error("무효화 토큰을 반영하지 못해 버립니다 - jti : {}, 사유 : {}", jti, e.getMessage());
+            }
+        });
+    }
+
+    private void insertActive(String uid, ActiveToken token) {
+        try {
+            jdbcTemplate.update("INSERT INTO active_tokens (uid, jti, expires_at) VALUES (?, ?, ?)",
+                    uid, token.jti(), token.expiresAt());
+        } catch (DuplicateKeyException e) {
+            // UPDATE와 INSERT 사이에 다른 노드가 같은 uid를 기록한 경우
+            jdbcTemplate.update("UPDATE active_tokens SET jti = ?, expires_at = ? WHERE uid = ?",
+                    token.jti(), token.expiresAt(), uid);
+        }
+    }
+
+    // 만료된 토큰 상태 정리
+    @Scheduled(fixedDelayString = "${jwt.token-store.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        int revoked = jdbcTemplate.update("DELETE FROM revoked_tokens WHERE expires_at < ?", now);
+        int active = jdbcTemplate.update("DELETE FROM active_tokens WHERE expires_at < ?", now);
+        logger.info("만료된 토큰 상태 정리 완료 - 활성 토큰 : {}, 무효화 토큰 : {}", active, revoked);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void revokeCurrent(String uid) {
+        ActiveToken current = activeCache.get(uid, this::loadActiveToken);
+        if (current.jti() != null) {
+            localRevocations.revoke(current.jti(), current.expiresAt());
+            pendingRevoked.put(current.jti(), current.expiresAt());
+        }
+    }
+
+    private ActiveToken loadActiveToken(String uid) {
+        ActiveToken pending = pendingActive.get(uid);
+        if (pending != null) {
+            return pending;
+        }
+        List<ActiveToken> rows = jdbcTemplate.query(
+                "SELECT jti, expires_at FROM active_tokens WHERE uid = ?",
+                (rs, rowNum) -> new ActiveToken(rs.getString("jti"), rs.getLong("expires_at")),
+                uid);
+        return rows.isEmpty() ? NONE : rows.get(0);
+    }
+
+    private Boolean loadRevoked(String jti) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM revoked_tokens WHERE jti = ?", Integer.class, jti);
+        return count != null && count > 0;
+    }
+}
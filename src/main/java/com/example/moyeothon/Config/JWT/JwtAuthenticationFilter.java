@@ -1,6 +1,7 @@
 package com.example.moyeothon.Config.JWT;
 
 import com.example.moyeothon.Service.UserDetailService;
+import io.jsonwebtoken.Claims;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -31,7 +32,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String header = request.getHeader("Authorization");
         String token = null;
-        String uid = null;
 
         if (header != null) {
             if (header.startsWith("Bearer ")) {
@@ -39,12 +39,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             } else {
                 token = header;
             }
-            uid = jwtTokenProvider.getUidFromToken(token);
+        } else if (request.getRequestURI().startsWith("/message/subscribe/")) {
+            // 브라우저 EventSource는 헤더를 지정할 수 없으므로 실시간 구독 요청만 쿼리 파라미터 토큰 허용
+            // 쿼리 문자열은 프록시/서버 접근 로그에 그대로 남으므로, 접근 로그를 켜는 경우 이 경로는 쿼리 없이 기록하거나
+            // access_token 값을 가리도록 설정해야 함 (nginx: 이 location만 $uri 기반 log_format 사용, Tomcat: %U 사용)
+            token = request.getParameter("access_token");
         }
 
-        if (uid != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            if (jwtTokenProvider.validateToken(token, uid)) {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(uid);
+        if (token != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            Claims claims = jwtTokenProvider.validateAndGetClaims(token);
+            if (claims != null) {
+                UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
                 if (userDetails != null) {
                     UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                             userDetails, null, userDetails.getAuthorities());
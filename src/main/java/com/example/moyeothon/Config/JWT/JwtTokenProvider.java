@@ -2,15 +2,17 @@ package com.example.moyeothon.Config.JWT;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PostConstruct;
 import java.security.Key;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class JwtTokenProvider {
@@ -24,11 +26,16 @@ public class JwtTokenProvider {
     private Long expiration;
 
     private Key key;
+    // 서명 키가 적용된 재사용 파서 (스레드 안전)
+    private JwtParser jwtParser;
 
-    // 활성화된 토큰을 저장하는 맵
-    private Map<String, String> activeTokens = new ConcurrentHashMap<>();
-    // 무효화된 토큰을 저장하는 집합
-    private Set<String> invalidTokens = ConcurrentHashMap.newKeySet();
+    // 활성 토큰, 무효화된 토큰 상태 저장소
+    @Autowired
+    private TokenStore tokenStore;
+
+    // 토큰 발급, 파싱, 검증 소요 시간 (결과별 태그)
+    @Autowired
+    private MeterRegistry meterRegistry;
 
     @PostConstruct
     public void init() {
@@ -37,88 +44,73 @@ public class JwtTokenProvider {
             throw new IllegalArgumentException("경고 : 비밀 키의 길이는 64자 이상으로 설정할 것");
         }
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
     // 새로운 JWT 토큰을 생성
     public String generateToken(String uid) {
-        invalidateToken(uid);
+        Timer.Sample sample = Timer.start(meterRegistry);
         Map<String, Object> claims = new HashMap<>();
-        String token = doGenerateToken(claims, uid);
-        activeTokens.put(uid, token);
+        String jti = UUID.randomUUID().toString();
+        Date issuedAt = new Date();
+        Date expiresAt = new Date(issuedAt.getTime() + expiration);
+        String token = doGenerateToken(claims, uid, jti, issuedAt, expiresAt);
+        tokenStore.replaceActiveToken(uid, jti, expiresAt.getTime());
+        record(sample, "jwt.generate", "issued");
         return token;
     }
 
     // JWT 토큰을 생성
-    private String doGenerateToken(Map<String, Object> claims, String subject) {
+    private String doGenerateToken(Map<String, Object> claims, String subject, String jti, Date issuedAt, Date expiresAt) {
         return Jwts.builder()
                 .setClaims(claims)
                 .setSubject(subject)
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + expiration))
+                .setId(jti)
+                .setIssuedAt(issuedAt)
+                .setExpiration(expiresAt)
                 .signWith(key, SignatureAlgorithm.HS512)
                 .compact();
     }
 
-    // JWT 토큰을 생성
-    public String getUidFromToken(String token) {
-        Claims claims = getAllClaimsFromToken(token);
-        return claims != null ? claims.getSubject() : null;
-    }
-
-    // JWT 토큰에서 모든 클레임을 추출
-    private Claims getAllClaimsFromToken(String token) {
-        try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-        } catch (ExpiredJwtException e) {
-            logger.error("토큰의 유효기간이 지나 만료되었습니다. 다시 로그인 해주세요");
-            throw e;
-        } catch (JwtException | IllegalArgumentException e) {
-            logger.error("토큰이 유효하지 않습니다");
-            throw e;
-        }
-    }
-
-    // JWT 토큰의 유효성과 만료 여부를 체크
-    public Boolean validateToken(String token, String uid) {
+    // JWT 토큰을 한 번만 파싱하여 서명, 만료, 무효화 여부를 검증하고 검증된 클레임을 반환
+    public Claims validateAndGetClaims(String token) {
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
-            logger.info("토큰 유효성 및 만료여부를 체크합니다");
-            final String userUid = getUidFromToken(token);
-            if (invalidTokens.contains(token)) {
+            // 서명 검증과 만료(exp) 검증이 파싱 한 번에 함께 이루어짐
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            String jti = claims.getId();
+            if (jti == null || tokenStore.isRevoked(jti)) {
+                record(sample, "jwt.validate", "revoked");
                 logger.error("토큰이 무효화되었습니다.");
-                return false;
+                return null;
+            }
+            String uid = claims.getSubject();
+            if (uid == null || !jti.equals(tokenStore.findActiveJti(uid))) {
+                record(sample, "jwt.validate", "replaced");
+                return null;
             }
-            return (userUid.equals(uid) && !isTokenExpired(token) && token.equals(activeTokens.get(uid)));
+            record(sample, "jwt.validate", "valid");
+            return claims;
         } catch (ExpiredJwtException e) {
+            record(sample, "jwt.validate", "expired");
             logger.error("토큰의 유효기간이 지나 만료되었습니다. 다시 로그인 해주세요");
-            return false;
+            return null;
         } catch (JwtException | IllegalArgumentException e) {
+            record(sample, "jwt.validate", "invalid");
             logger.error("토큰이 유효하지 않습니다");
-            return false;
+            return null;
         }
     }
 
-    // JWT 토큰이 만료되었는지 확인
-    private Boolean isTokenExpired(String token) {
-        final Date expiration = getExpirationDateFromToken(token);
-        return expiration.before(new Date());
-    }
-
-    // JWT 토큰에서 만료 기간을 추출
-    private Date getExpirationDateFromToken(String token) {
-        Claims claims = getAllClaimsFromToken(token);
-        return claims != null ? claims.getExpiration() : null;
-    }
-
     // 주어진 사용자 ID의 기존 JWT 토큰을 무효화
     public void invalidateToken(String uid) {
-        String token = activeTokens.remove(uid);
-        if (token != null) {
-            invalidTokens.add(token);
-        }
+        tokenStore.invalidate(uid);
+    }
+
+    private void record(Timer.Sample sample, String name, String outcome) {
+        sample.stop(meterRegistry.timer(name, "outcome", outcome));
     }
 }
 
@@ -0,0 +1,79 @@
+package com.example.moyeothon.Config.JWT;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.util.concurrent.TimeUnit;
+
+// 무효화된 토큰의 jti를 토큰 자체의 만료 시각까지만 보관하는 저장소
+// 만료된 항목은 백그라운드에서 제거되므로 보관 개수는 아직 만료되지 않은 토큰 수로 제한됨
+public class TokenRevocationStore {
+
+    // jti -> 토큰 만료 시각 (epoch millis)
+    private final Cache<String, Long> revokedTokens;
+    private final Ticker ticker;
+    // 캐시 Ticker(나노초) 값을 epoch millis로 바꾸기 위한 기준값 (남은 시간 계산이 캐시와 같은 시계를 사용하도록)
+    private final long epochOffsetMillis;
+
+    public TokenRevocationStore() {
+        this(Ticker.systemTicker());
+    }
+
+    TokenRevocationStore(Ticker ticker) {
+        this.ticker = ticker;
+        this.epochOffsetMillis = System.currentTimeMillis() - TimeUnit.NANOSECONDS.toMillis(ticker.read());
+        this.revokedTokens = Caffeine.newBuilder()
+                .expireAfter(new UntilTokenExpiry())
+                .scheduler(Scheduler.systemScheduler())
+                .ticker(ticker)
+                .build();
+    }
+
+    // 캐시 Ticker 기준 현재 시각 (epoch millis)
+    long currentTimeMillis() {
+        return toEpochMillis(ticker.read());
+    }
+
+    private long toEpochMillis(long tickerNanos) {
+        return epochOffsetMillis + TimeUnit.NANOSECONDS.toMillis(tickerNanos);
+    }
+
+    // 토큰 무효화, 토큰의 만료 시각이 지나면 자동으로 제거됨
+    public void revoke(String jti, long expiresAtMillis) {
+        if (expiresAtMillis > currentTimeMillis()) {
+            revokedTokens.put(jti, expiresAtMillis);
+        }
+    }
+
+    public boolean isRevoked(String jti) {
+        return revokedTokens.getIfPresent(jti) != null;
+    }
+
+    // 현재 보관 중인 무효화 토큰 수
+    public long size() {
+        revokedTokens.cleanUp();
+        return revokedTokens.estimatedSize();
+    }
+
+    private class UntilTokenExpiry implements Expiry<String, Long> {
+
+        @Override
+        public long expireAfterCreate(String jti, Long expiresAtMillis, long currentTime) {
+            long remainingMillis = Math.max(0, expiresAtMillis - toEpochMillis(currentTime));
+            return TimeUnit.MILLISECONDS.toNanos(remainingMillis);
+        }
+
+        @Override
+        public long expireAfterUpdate(String jti, Long expiresAtMillis, long currentTime, long currentDuration) {
+            return expireAfterCreate(jti, expiresAtMillis, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String jti, Long expiresAtMillis, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.moyeothon.Config.JWT;
+
+// 활성 토큰과 무효화된 토큰 상태를 보관하는 저장소
+// jwt.token-store.type 설정으로 메모리(memory) 또는 DB(jdbc) 구현을 선택
+public interface TokenStore {
+
+    // uid의 활성 토큰을 새 토큰으로 교체하고 이전 토큰은 무효화
+    void replaceActiveToken(String uid, String jti, long expiresAt);
+
+    // uid의 활성 토큰을 무효화
+    void invalidate(String uid);
+
+    // uid의 활성 토큰 jti, 없으면 null
+    String findActiveJti(String uid);
+
+    // 무효화된 토큰인지 확인
+    boolean isRevoked(String jti);
+
+    // 활성 토큰의 jti와 만료 시각 (epoch millis)
+    record ActiveToken(String jti, long expiresAt) {
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.moyeothon.Config.JWT;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.Collections;
+
+// JWT 인증에 사용하는 가벼운 불변 사용자 정보 (연관 컬렉션 없이 캐시 가능)
+public final class UserPrincipal implements UserDetails {
+
+    private final Long id;
+    private final String uid;
+    private final String nickname;
+
+    public UserPrincipal(Long id, String uid, String nickname) {
+        this.id = id;
+        this.uid = uid;
+        this.nickname = nickname;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getNickname() {
+        return nickname;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return uid;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
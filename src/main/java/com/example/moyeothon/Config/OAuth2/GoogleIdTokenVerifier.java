@@ -0,0 +1,83 @@
+package com.example.moyeothon.Config.OAuth2;
+
+import com.example.moyeothon.Config.OAuthProperties.GoogleOAuthProperties;
+import com.example.moyeothon.Config.OAuthProperties.OAuthHttpProperties;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.jwk.source.JWKSourceBuilder;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jose.util.DefaultResourceRetriever;
+import com.nimbusds.jose.util.ResourceRetriever;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimNames;
+import org.springframework.security.oauth2.jwt.JwtClaimValidator;
+import org.springframework.security.oauth2.jwt.JwtTimestampValidator;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.stereotype.Component;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 구글 토큰 응답의 ID 토큰을 캐시된 JWKS로 로컬 검증 (userinfo API 왕복 제거)
+@Component
+public class GoogleIdTokenVerifier {
+
+    private static final Set<String> GOOGLE_ISSUERS = Set.of("https://accounts.google.com", "accounts.google.com");
+
+    private final NimbusJwtDecoder jwtDecoder;
+
+    @Autowired
+    public GoogleIdTokenVerifier(GoogleOAuthProperties googleOAuthProperties,
+                                 OAuthHttpProperties httpProperties,
+                                 @Value("${oauth.google.jwk-set-uri:https://www.googleapis.com/oauth2/v3/certs}") String jwkSetUri,
+                                 @Value("${oauth.google.jwk-set-cache-ttl:1h}") Duration cacheTtl) throws MalformedURLException {
+        DefaultResourceRetriever resourceRetriever = new DefaultResourceRetriever(
+                (int) httpProperties.getConnectTimeout().toMillis(),
+                (int) httpProperties.getReadTimeout().toMillis());
+        JWKSource<SecurityContext> jwkSource = cachingJwkSource(new URL(jwkSetUri), resourceRetriever, cacheTtl, httpProperties.getReadTimeout());
+        this.jwtDecoder = createDecoder(jwkSource, googleOAuthProperties.getClientId());
+    }
+
+    GoogleIdTokenVerifier(JWKSource<SecurityContext> jwkSource, String clientId) {
+        this.jwtDecoder = createDecoder(jwkSource, clientId);
+    }
+
+    // 서명, 발급자, 대상(client id), 만료 시간 검증 후 클레임 반환
+    // 검증 실패 시 BadJwtException, 키 조회 실패 시 JwtException 발생
+    public Map<String, Object> verify(String idToken) {
+        Jwt jwt = jwtDecoder.decode(idToken);
+        return jwt.getClaims();
+    }
+
+    // 키 캐시 만료 전에 백그라운드에서 미리 갱신하고, 캐시에 없는 kid(키 교체)가 오면 즉시 다시 조회
+    static JWKSource<SecurityContext> cachingJwkSource(URL jwkSetUrl, ResourceRetriever resourceRetriever, Duration cacheTtl, Duration refreshTimeout) {
+        return JWKSourceBuilder.create(jwkSetUrl, resourceRetriever)
+                .cache(cacheTtl.toMillis(), refreshTimeout.toMillis())
+                .refreshAheadCache(true)
+                .build();
+    }
+
+    private static NimbusJwtDecoder createDecoder(JWKSource<SecurityContext> jwkSource, String clientId) {
+        DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+        jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwkSource));
+        // 클레임 검증은 아래 Spring Security 검증기에서 수행
+        jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+
+        NimbusJwtDecoder decoder = new NimbusJwtDecoder(jwtProcessor);
+        decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(
+                new JwtTimestampValidator(),
+                new JwtClaimValidator<Object>(JwtClaimNames.ISS, iss -> iss != null && GOOGLE_ISSUERS.contains(iss.toString())),
+                new JwtClaimValidator<List<String>>(JwtClaimNames.AUD, aud -> aud != null && aud.contains(clientId))));
+        return decoder;
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.moyeothon.Config.OAuth2;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.function.Supplier;
+
+// 카카오, 구글 API 호출을 제공자별 벌크헤드(동시 호출 수 제한)와 서킷 브레이커로 감싸 장애를 해당 제공자 로그인으로 한정
+@Component
+public class OAuthProviderGuard {
+
+    private static final Logger logger = LoggerFactory.getLogger(OAuthProviderGuard.class);
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final MeterRegistry meterRegistry;
+
+    public OAuthProviderGuard(CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry, MeterRegistry meterRegistry) {
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.meterRegistry = meterRegistry;
+        for (String provider : new String[]{"kakao", "google"}) {
+            circuitBreakerRegistry.circuitBreaker(provider).getEventPublisher()
+                    .onStateTransition(event -> logger.warn("{} 서킷 브레이커 상태 변경 : {}",
+                            event.getCircuitBreakerName(), event.getStateTransition()));
+        }
+    }
+
+    // 제공자 호출 (동시 호출 한도 초과 또는 서킷 오픈 시 원격 호출 없이 즉시 503)
+    // 제공자별 소요 시간은 oauth.provider.calls (outcome : success, error, rejected)로 기록
+    public <T> T call(String provider, Supplier<T> remoteCall) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(provider);
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(provider);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            T result = CircuitBreaker.decorateSupplier(circuitBreaker, Bulkhead.decorateSupplier(bulkhead, remoteCall)).get();
+            outcome = "success";
+            return result;
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            outcome = "rejected";
+            logger.warn("{} API 호출을 차단했습니다 : {}", provider, e.getMessage());
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, provider + " 로그인이 일시적으로 원활하지 않습니다. 잠시 후 다시 시도해주세요.");
+        } finally {
+            sample.stop(Timer.builder("oauth.provider.calls")
+                    .tag("provider", provider)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.moyeothon.Config;
+
+import com.example.moyeothon.Config.OAuthProperties.OAuthHttpProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+@Configuration
+@RequiredArgsConstructor
+public class OAuthHttpClientConfig {
+
+    private final OAuthHttpProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    // 카카오 API 전용 RestTemplate (느린 제공자가 다른 제공자의 커넥션을 점유하지 않도록 풀을 분리)
+    @Bean
+    public RestTemplate kakaoRestTemplate(RestTemplateBuilder restTemplateBuilder) {
+        return pooledRestTemplate(restTemplateBuilder, "kakao");
+    }
+
+    // 구글 API 전용 RestTemplate
+    @Bean
+    public RestTemplate googleRestTemplate(RestTemplateBuilder restTemplateBuilder) {
+        return pooledRestTemplate(restTemplateBuilder, "google");
+    }
+
+    // 커넥션 풀, 연결/응답/풀 대기 타임아웃이 적용된 RestTemplate 생성
+    RestTemplate pooledRestTemplate(RestTemplateBuilder restTemplateBuilder, String poolName) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxConnections())
+                .setMaxConnPerRoute(properties.getMaxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(properties.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.of(properties.getReadTimeout()))
+                        .build())
+                .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, poolName).bindTo(meterRegistry);
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(properties.getConnectionRequestTimeout()))
+                        .setResponseTimeout(Timeout.of(properties.getReadTimeout()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(properties.getIdleTimeout()))
+                .build();
+
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        return restTemplateBuilder.requestFactory(() -> requestFactory).build();
+    }
+}
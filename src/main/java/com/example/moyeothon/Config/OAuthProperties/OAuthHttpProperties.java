@@ -0,0 +1,23 @@
+package com.example.moyeothon.Config.OAuthProperties;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// 카카오, 구글 API 호출용 HTTP 클라이언트 설정 (제공자별로 같은 설정의 커넥션 풀을 따로 생성)
+@Component
+@ConfigurationProperties(prefix = "oauth.http")
+@NoArgsConstructor
+@Getter
+@Setter
+public class OAuthHttpProperties {
+    private Duration connectTimeout = Duration.ofSeconds(2);
+    private Duration readTimeout = Duration.ofSeconds(3);
+    private Duration connectionRequestTimeout = Duration.ofSeconds(1);
+    private Duration idleTimeout = Duration.ofSeconds(30);
+    private int maxConnections = 50;
+}
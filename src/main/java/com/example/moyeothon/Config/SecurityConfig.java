@@ -2,6 +2,7 @@ package com.example.moyeothon.Config;
 
 import com.example.moyeothon.Config.OAuth2.CustomOAuth2UserService;
 import com.example.moyeothon.Repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -23,6 +24,10 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final UserRepository userRepository;
 
+    // BCrypt 비용 계수 (변경 시 기존 해시는 로그인할 때 재해싱됨)
+    @Value("${password-hash.strength:10}")
+    private int passwordHashStrength;
+
     public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter, UserRepository userRepository) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
         this.userRepository = userRepository;
@@ -30,7 +35,7 @@ public class SecurityConfig {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BCryptPasswordEncoder(passwordHashStrength);
     }
 
     @Bean
@@ -70,14 +75,9 @@ public class SecurityConfig {
         return http.build();
     }
 
-    @Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder(){
-        return new BCryptPasswordEncoder();
-    }
-
     @Bean
     public CustomOAuth2UserService customOAuth2UserService() {
-        return new CustomOAuth2UserService(userRepository, passwordEncoder());
+        return new CustomOAuth2UserService(userRepository);
     }
 }
 
@@ -1,17 +1,25 @@
 package com.example.moyeothon.Controller;
 
+import com.example.moyeothon.DTO.BucketDto.CompactFeedResponseDto;
+import com.example.moyeothon.DTO.BucketDto.FeedResponseDto;
 import com.example.moyeothon.DTO.BucketDto.RequestDto;
 import com.example.moyeothon.DTO.BucketDto.ResponseDto;
 import com.example.moyeothon.Service.BucketService;
+import com.example.moyeothon.Service.JsonStreamService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -53,22 +61,74 @@ public class BucketController {
     // 해당 유저 버킷리스트 전체 조회
     @Operation(summary = "유저의 bucketList 전체 조회")
     @GetMapping("/user/bucket/{uid}")
-    public ResponseEntity<List<ResponseDto>> getAllUserBucket(@Validated @PathVariable String uid, @AuthenticationPrincipal UserDetails userDetails){
+    public ResponseEntity<List<ResponseDto>> getAllUserBucket(@Validated @PathVariable String uid, @AuthenticationPrincipal UserDetails userDetails, WebRequest webRequest){
+        // 변경이 없으면 목록을 조회하지 않고 304 응답
+        if (webRequest.checkNotModified(bucketService.getUserBucketsETag(uid, userDetails))) {
+            return null;
+        }
         return ResponseEntity.ok(bucketService.getUserAllBucket(uid, userDetails));
     }
 
+    // 유저의 bucketList 전체 조회 (스트리밍, Accept: application/x-ndjson이면 NDJSON)
+    @Operation(summary = "유저의 bucketList 전체 조회 (스트리밍)")
+    @GetMapping(value = "/user/bucket/{uid}/stream", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<StreamingResponseBody> streamAllUserBucket(@PathVariable String uid, @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept, @AuthenticationPrincipal UserDetails userDetails, ServletWebRequest webRequest) {
+        MediaType format = JsonStreamService.negotiate(accept);
+        if (JsonStreamService.checkNotModified(webRequest, bucketService.getUserBucketsETag(uid, userDetails), format)) {
+            return null;
+        }
+        return ResponseEntity.ok().contentType(format).body(bucketService.streamUserAllBucket(uid, format, userDetails));
+    }
+
     // 버킷리스트 전체 조회
     @Operation(summary = "모든 bucketList 보기")
     @GetMapping("/bucket/all/{uid}")
-    public ResponseEntity<List<ResponseDto>> getAllBucket(@Validated @PathVariable String uid, @AuthenticationPrincipal UserDetails userDetails){
+    public ResponseEntity<List<ResponseDto>> getAllBucket(@Validated @PathVariable String uid, @AuthenticationPrincipal UserDetails userDetails, WebRequest webRequest){
+        // 변경이 없으면 목록을 조회하지 않고 304 응답
+        if (webRequest.checkNotModified(bucketService.getPublicBucketsETag(uid, userDetails))) {
+            return null;
+        }
         return ResponseEntity.ok(bucketService.getAllBucket(uid, userDetails));
     }
 
+    // 모든 bucketList 보기 (스트리밍, Accept: application/x-ndjson이면 NDJSON)
+    @Operation(summary = "모든 bucketList 보기 (스트리밍)")
+    @GetMapping(value = "/bucket/all/{uid}/stream", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<StreamingResponseBody> streamAllBucket(@PathVariable String uid, @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept, @AuthenticationPrincipal UserDetails userDetails, ServletWebRequest webRequest) {
+        MediaType format = JsonStreamService.negotiate(accept);
+        if (JsonStreamService.checkNotModified(webRequest, bucketService.getPublicBucketsETag(uid, userDetails), format)) {
+            return null;
+        }
+        return ResponseEntity.ok().contentType(format).body(bucketService.streamAllBucket(uid, format, userDetails));
+    }
+
+    // 공개 버킷리스트 피드 조회 (커서 기반 페이지네이션)
+    @Operation(summary = "공개 bucketList 피드 조회 (cursor 기반)")
+    @GetMapping("/bucket/feed/{uid}")
+    public ResponseEntity<FeedResponseDto> getBucketFeed(@PathVariable String uid, @RequestParam(required = false) Long cursor, @RequestParam(required = false) Integer size, @AuthenticationPrincipal UserDetails userDetails, WebRequest webRequest){
+        // 변경이 없으면 목록을 조회하지 않고 304 응답
+        if (webRequest.checkNotModified(bucketService.getPublicBucketsETag(uid, userDetails))) {
+            return null;
+        }
+        return ResponseEntity.ok(bucketService.getPublicFeed(uid, cursor, size, userDetails));
+    }
+
+    // 공개 버킷리스트 피드 간략 조회 (view=compact)
+    @Operation(summary = "공개 bucketList 피드 간략 조회 (cursor 기반, 작성자 정보 중복 제거)")
+    @GetMapping(value = "/bucket/feed/{uid}", params = "view=compact")
+    public ResponseEntity<CompactFeedResponseDto> getCompactBucketFeed(@PathVariable String uid, @RequestParam(required = false) Long cursor, @RequestParam(required = false) Integer size, @AuthenticationPrincipal UserDetails userDetails, WebRequest webRequest){
+        // 변경이 없으면 목록을 조회하지 않고 304 응답
+        if (webRequest.checkNotModified(bucketService.getPublicBucketsETag(uid, userDetails))) {
+            return null;
+        }
+        return ResponseEntity.ok(bucketService.getCompactPublicFeed(uid, cursor, size, userDetails));
+    }
+
     // 제목, 내용 키워드별로 버킷리스트 검색하기
     @Operation(summary = "제목, 내용 키워드별로 버킷리스트 검색하기")
     @GetMapping("/bucket/search/{uid}")
-    public ResponseEntity<List<ResponseDto>> searchTitleAndContent(@RequestParam String keyword, @PathVariable String uid, @AuthenticationPrincipal UserDetails userDetails) {
-        return ResponseEntity.ok(bucketService.searchTitleAndContent(keyword, uid, userDetails));
+    public ResponseEntity<List<ResponseDto>> searchTitleAndContent(@RequestParam String keyword, @PathVariable String uid, @RequestParam(required = false) Integer page, @RequestParam(required = false) Integer size, @AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(bucketService.searchTitleAndContent(keyword, uid, page, size, userDetails));
     }
 
     // 특정 버킷리스트의 공개 여부 변경
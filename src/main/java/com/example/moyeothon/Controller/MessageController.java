@@ -1,14 +1,27 @@
 package com.example.moyeothon.Controller;
 
+import com.example.moyeothon.DTO.BulkReadResultDTO;
+import com.example.moyeothon.DTO.CompactMessagePageDTO;
 import com.example.moyeothon.DTO.MessageDTO;
+import com.example.moyeothon.DTO.MessagePageDTO;
+import com.example.moyeothon.DTO.UnreadCountDTO;
+import com.example.moyeothon.Service.JsonStreamService;
 import com.example.moyeothon.Service.MessageService;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -39,6 +52,27 @@ public class MessageController {
         return ResponseEntity.ok(messageService.readMessage(messageId, uid, userDetails));
     }
 
+    // 선택한 수신 쪽지 일괄 읽음 처리
+    @Operation(summary = "선택한 수신 쪽지 일괄 읽음 처리")
+    @PatchMapping("/read/bulk/{uid}")
+    public ResponseEntity<BulkReadResultDTO> readMessages(@PathVariable String uid, @RequestBody List<Long> messageIds, @AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(messageService.readMessages(uid, messageIds, userDetails));
+    }
+
+    // 해당 버킷리스트로 받은 쪽지 일괄 읽음 처리
+    @Operation(summary = "해당 버킷리스트로 받은 쪽지 일괄 읽음 처리")
+    @PatchMapping("/read/bucket/{uid}/{bucketListId}")
+    public ResponseEntity<BulkReadResultDTO> readMessagesInBucket(@PathVariable String uid, @PathVariable Long bucketListId, @AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(messageService.readMessagesInBucket(uid, bucketListId, userDetails));
+    }
+
+    // 기준 시각 이전에 받은 쪽지 일괄 읽음 처리
+    @Operation(summary = "기준 시각 이전에 받은 쪽지 일괄 읽음 처리")
+    @PatchMapping("/read/before/{uid}")
+    public ResponseEntity<BulkReadResultDTO> readMessagesBefore(@PathVariable String uid, @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime before, @AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(messageService.readMessagesBefore(uid, before, userDetails));
+    }
+
     // 쪽지 삭제
     @Operation(summary = "쪽지 삭제")
     @DeleteMapping("/{messageId}/{uid}")
@@ -49,28 +83,160 @@ public class MessageController {
     // 해당 유저 송수신 쪽지 전체 조회
     @Operation(summary = "해당 유저 송수신 쪽지 전체 조회")
     @GetMapping("/user/{uid}")
-    public ResponseEntity<List<MessageDTO>> getAllMessagesForUser(@PathVariable String uid, @AuthenticationPrincipal UserDetails userDetails) {
+    public ResponseEntity<List<MessageDTO>> getAllMessagesForUser(@PathVariable String uid, @AuthenticationPrincipal UserDetails userDetails, WebRequest webRequest) {
+        // 변경이 없으면 목록을 조회하지 않고 304 응답
+        if (webRequest.checkNotModified(messageService.getMessagesETag(uid, userDetails))) {
+            return null;
+        }
         return ResponseEntity.ok(messageService.getAllMessagesForUser(uid, userDetails));
     }
 
+    // 해당 유저 송수신 쪽지 전체 조회 (스트리밍, Accept: application/x-ndjson이면 NDJSON)
+    @Operation(summary = "해당 유저 송수신 쪽지 전체 조회 (스트리밍)")
+    @GetMapping(value = "/user/{uid}/stream", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<StreamingResponseBody> streamAllMessagesForUser(@PathVariable String uid, @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept, @AuthenticationPrincipal UserDetails userDetails, ServletWebRequest webRequest) {
+        MediaType format = JsonStreamService.negotiate(accept);
+        if (JsonStreamService.checkNotModified(webRequest, messageService.getMessagesETag(uid, userDetails), format)) {
+            return null;
+        }
+        return ResponseEntity.ok().contentType(format).body(messageService.streamAllMessagesForUser(uid, format, userDetails));
+    }
+
     // 해당 유저 송신 쪽지 전체 조회
     @Operation(summary = "해당 유저 송신 쪽지 전체 조회")
     @GetMapping("/user/sendmessage/{uid}")
-    public ResponseEntity<List<MessageDTO>> getAllMessageForSender(@PathVariable String uid, @AuthenticationPrincipal UserDetails userDetails) {
+    public ResponseEntity<List<MessageDTO>> getAllMessageForSender(@PathVariable String uid, @AuthenticationPrincipal UserDetails userDetails, WebRequest webRequest) {
+        // 변경이 없으면 목록을 조회하지 않고 304 응답
+        if (webRequest.checkNotModified(messageService.getMessagesETag(uid, userDetails))) {
+            return null;
+        }
         return ResponseEntity.ok(messageService.getAllMessageForSender(uid, userDetails));
     }
 
+    // 해당 유저 송신 쪽지 전체 조회 (스트리밍, Accept: application/x-ndjson이면 NDJSON)
+    @Operation(summary = "해당 유저 송신 쪽지 전체 조회 (스트리밍)")
+    @GetMapping(value = "/user/sendmessage/{uid}/stream", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<StreamingResponseBody> streamAllMessageForSender(@PathVariable String uid, @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept, @AuthenticationPrincipal UserDetails userDetails, ServletWebRequest webRequest) {
+        MediaType format = JsonStreamService.negotiate(accept);
+        if (JsonStreamService.checkNotModified(webRequest, messageService.getMessagesETag(uid, userDetails), format)) {
+            return null;
+        }
+        return ResponseEntity.ok().contentType(format).body(messageService.streamAllMessageForSender(uid, format, userDetails));
+    }
+
     // 해당 유저 수신 쪽지 전체 조회
     @Operation(summary = "해당 유저 수신 쪽지 전체 조회")
     @GetMapping("/user/receivemessage/{uid}")
-    public ResponseEntity<List<MessageDTO>> getAllMessageForReceiver(@PathVariable String uid, @AuthenticationPrincipal UserDetails userDetails) {
+    public ResponseEntity<List<MessageDTO>> getAllMessageForReceiver(@PathVariable String uid, @AuthenticationPrincipal UserDetails userDetails, WebRequest webRequest) {
+        // 변경이 없으면 목록을 조회하지 않고 304 응답
+        if (webRequest.checkNotModified(messageService.getMessagesETag(uid, userDetails))) {
+            return null;
+        }
         return ResponseEntity.ok(messageService.getAllMessageForReceiver(uid, userDetails));
     }
 
+    // 해당 유저 수신 쪽지 전체 조회 (스트리밍, Accept: application/x-ndjson이면 NDJSON)
+    @Operation(summary = "해당 유저 수신 쪽지 전체 조회 (스트리밍)")
+    @GetMapping(value = "/user/receivemessage/{uid}/stream", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<StreamingResponseBody> streamAllMessageForReceiver(@PathVariable String uid, @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept, @AuthenticationPrincipal UserDetails userDetails, ServletWebRequest webRequest) {
+        MediaType format = JsonStreamService.negotiate(accept);
+        if (JsonStreamService.checkNotModified(webRequest, messageService.getMessagesETag(uid, userDetails), format)) {
+            return null;
+        }
+        return ResponseEntity.ok().contentType(format).body(messageService.streamAllMessageForReceiver(uid, format, userDetails));
+    }
+
+    // 새 쪽지 실시간 구독 (SSE, EventSource는 헤더를 보낼 수 없으므로 access_token 쿼리 파라미터도 허용)
+    @Operation(summary = "새 쪽지 실시간 구독 (SSE)")
+    @GetMapping(value = "/subscribe/{uid}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@PathVariable String uid, @AuthenticationPrincipal UserDetails userDetails) {
+        return messageService.subscribe(uid, userDetails);
+    }
+
+    // 안 읽은 수신 쪽지 수 조회
+    @Operation(summary = "안 읽은 수신 쪽지 수 조회")
+    @GetMapping("/unread/{uid}")
+    public ResponseEntity<UnreadCountDTO> getUnreadCount(@PathVariable String uid, @AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(messageService.getUnreadCount(uid, userDetails));
+    }
+
+    // 해당 유저 수신함 페이지 조회 (최신순, 커서 기반)
+    @Operation(summary = "해당 유저 수신함 페이지 조회 (최신순, cursor 기반)")
+    @GetMapping("/inbox/{uid}")
+    public ResponseEntity<MessagePageDTO> getInbox(@PathVariable String uid, @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size, @AuthenticationPrincipal UserDetails userDetails, WebRequest webRequest) {
+        // 변경이 없으면 목록을 조회하지 않고 304 응답
+        if (webRequest.checkNotModified(messageService.getMessagesETag(uid, userDetails))) {
+            return null;
+        }
+        return ResponseEntity.ok(messageService.getInbox(uid, cursor, size, userDetails));
+    }
+
+    // 수신함 페이지 간략 조회 (view=compact, 유저와 버킷리스트는 id별로 한 번만 포함)
+    @Operation(summary = "수신함 페이지 간략 조회 (유저, 버킷리스트 중복 제거)")
+    @GetMapping(value = "/inbox/{uid}", params = "view=compact")
+    public ResponseEntity<CompactMessagePageDTO> getCompactInbox(@PathVariable String uid, @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size, @AuthenticationPrincipal UserDetails userDetails, WebRequest webRequest) {
+        // 변경이 없으면 목록을 조회하지 않고 304 응답
+        if (webRequest.checkNotModified(messageService.getMessagesETag(uid, userDetails))) {
+            return null;
+        }
+        return ResponseEntity.ok(messageService.getCompactInbox(uid, cursor, size, userDetails));
+    }
+
+    // 해당 유저 발신함 페이지 조회 (최신순, 커서 기반)
+    @Operation(summary = "해당 유저 발신함 페이지 조회 (최신순, cursor 기반)")
+    @GetMapping("/outbox/{uid}")
+    public ResponseEntity<MessagePageDTO> getOutbox(@PathVariable String uid, @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size, @AuthenticationPrincipal UserDetails userDetails, WebRequest webRequest) {
+        // 변경이 없으면 목록을 조회하지 않고 304 응답
+        if (webRequest.checkNotModified(messageService.getMessagesETag(uid, userDetails))) {
+            return null;
+        }
+        return ResponseEntity.ok(messageService.getOutbox(uid, cursor, size, userDetails));
+    }
+
+    // 발신함 페이지 간략 조회 (view=compact, 유저와 버킷리스트는 id별로 한 번만 포함)
+    @Operation(summary = "발신함 페이지 간략 조회 (유저, 버킷리스트 중복 제거)")
+    @GetMapping(value = "/outbox/{uid}", params = "view=compact")
+    public ResponseEntity<CompactMessagePageDTO> getCompactOutbox(@PathVariable String uid, @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size, @AuthenticationPrincipal UserDetails userDetails, WebRequest webRequest) {
+        // 변경이 없으면 목록을 조회하지 않고 304 응답
+        if (webRequest.checkNotModified(messageService.getMessagesETag(uid, userDetails))) {
+            return null;
+        }
+        return ResponseEntity.ok(messageService.getCompactOutbox(uid, cursor, size, userDetails));
+    }
+
+    // 상대 유저와 주고받은 쪽지 페이지 조회 (최신순, 커서 기반)
+    @Operation(summary = "상대 유저와 주고받은 쪽지 페이지 조회 (최신순, cursor 기반)")
+    @GetMapping("/conversation/{uid}/{otherUid}")
+    public ResponseEntity<MessagePageDTO> getConversation(@PathVariable String uid, @PathVariable String otherUid, @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size, @AuthenticationPrincipal UserDetails userDetails, WebRequest webRequest) {
+        // 변경이 없으면 목록을 조회하지 않고 304 응답
+        if (webRequest.checkNotModified(messageService.getMessagesETag(uid, userDetails))) {
+            return null;
+        }
+        return ResponseEntity.ok(messageService.getConversation(uid, otherUid, cursor, size, userDetails));
+    }
+
+    // 상대 유저와 주고받은 쪽지 페이지 간략 조회 (view=compact, 유저와 버킷리스트는 id별로 한 번만 포함)
+    @Operation(summary = "상대 유저와 주고받은 쪽지 페이지 간략 조회 (유저, 버킷리스트 중복 제거)")
+    @GetMapping(value = "/conversation/{uid}/{otherUid}", params = "view=compact")
+    public ResponseEntity<CompactMessagePageDTO> getCompactConversation(@PathVariable String uid, @PathVariable String otherUid, @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size, @AuthenticationPrincipal UserDetails userDetails, WebRequest webRequest) {
+        // 변경이 없으면 목록을 조회하지 않고 304 응답
+        if (webRequest.checkNotModified(messageService.getMessagesETag(uid, userDetails))) {
+            return null;
+        }
+        return ResponseEntity.ok(messageService.getCompactConversation(uid, otherUid, cursor, size, userDetails));
+    }
+
     // 특정 키워드가 포함된 쪽지 검색 (카테고리 키워드 검색 구현 전 연습)
     @Operation(summary = "특정 키워드가 포함된 쪽지 검색 (카테고리 키워드 검색 구현 전 연습)")
     @GetMapping("/search/{uid}")
     public ResponseEntity<List<MessageDTO>> searchMessagesByContent(@RequestParam String keyword, @PathVariable String uid, @AuthenticationPrincipal UserDetails userDetails) {
         return ResponseEntity.ok(messageService.searchMessagesByContent(keyword, uid, userDetails));
     }
+
+    // 해당 유저가 주고받은 쪽지 중 키워드가 포함된 쪽지 페이지 검색 (최신순, 커서 기반)
+    @Operation(summary = "해당 유저가 주고받은 쪽지 중 키워드가 포함된 쪽지 페이지 검색 (최신순, cursor 기반)")
+    @GetMapping("/search/page/{uid}")
+    public ResponseEntity<MessagePageDTO> searchMessages(@RequestParam String keyword, @PathVariable String uid, @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size, @AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(messageService.searchMessages(keyword, uid, cursor, size, userDetails));
+    }
 }
@@ -0,0 +1,35 @@
+package com.example.moyeothon.DTO.BucketDto;
+
+import com.example.moyeothon.DTO.UserSummaryDTO;
+import com.example.moyeothon.Entity.BucketlistEntity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 공개 버킷리스트 피드 간략 응답 (작성자 정보는 id별로 한 번만 포함)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompactFeedResponseDto {
+    private List<CompactResponseDto> buckets;
+    private Map<Long, UserSummaryDTO> users;
+    private Long nextCursor;
+    private boolean hasNext;
+
+    public static CompactFeedResponseDto of(List<BucketlistEntity> page, Long nextCursor, boolean hasNext) {
+        List<CompactResponseDto> buckets = new ArrayList<>(page.size());
+        Map<Long, UserSummaryDTO> users = new LinkedHashMap<>();
+        for (BucketlistEntity bucketList : page) {
+            buckets.add(CompactResponseDto.entityToDto(bucketList));
+            users.computeIfAbsent(bucketList.getUser().getId(), id -> UserSummaryDTO.entityToDto(bucketList.getUser()));
+        }
+        return new CompactFeedResponseDto(buckets, users, nextCursor, hasNext);
+    }
+}
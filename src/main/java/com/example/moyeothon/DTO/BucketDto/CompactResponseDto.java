@@ -0,0 +1,30 @@
+package com.example.moyeothon.DTO.BucketDto;
+
+import com.example.moyeothon.Entity.BucketlistEntity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 작성자를 id로만 참조하는 버킷리스트 (작성자 정보는 응답의 users에 한 번씩 포함)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompactResponseDto {
+    private Long id;
+    private String title;
+    private String content;
+    private boolean isPublic;
+    private Long userId;
+
+    public static CompactResponseDto entityToDto(BucketlistEntity bucketlistEntity){
+        return new CompactResponseDto(
+                bucketlistEntity.getId(),
+                bucketlistEntity.getTitle(),
+                bucketlistEntity.getContent(),
+                bucketlistEntity.isPublic(),
+                bucketlistEntity.getUser().getId()
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.moyeothon.DTO.BucketDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeedResponseDto {
+    private List<ResponseDto> buckets;
+    private Long nextCursor;
+    private boolean hasNext;
+}
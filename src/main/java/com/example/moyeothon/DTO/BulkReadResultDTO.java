@@ -0,0 +1,13 @@
+package com.example.moyeothon.DTO;
+
+import lombok.*;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class BulkReadResultDTO {
+    private int updatedCount;
+    private long unreadCount;
+}
@@ -0,0 +1,35 @@
+package com.example.moyeothon.DTO;
+
+import com.example.moyeothon.Entity.MessageEntity;
+import com.example.moyeothon.Enum.MessageStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 유저, 버킷리스트를 id로만 참조하는 쪽지 (상세 정보는 CompactMessagePageDTO의 users, buckets에 한 번씩 포함)
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class CompactMessageDTO {
+    private Long id;
+    private String content;
+    private LocalDateTime createTime;
+    private Long senderId;
+    private Long receiverId;
+    private MessageStatus status;
+    private Long bucketListId;
+
+    public static CompactMessageDTO entityToDTO(MessageEntity messageEntity) {
+        return new CompactMessageDTO(
+                messageEntity.getId(),
+                messageEntity.getContent(),
+                messageEntity.getCreateTime(),
+                messageEntity.getSender().getId(),
+                messageEntity.getReceiver().getId(),
+                messageEntity.getStatus(),
+                messageEntity.getBucketList().getId()
+        );
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.moyeothon.DTO;
+
+import com.example.moyeothon.DTO.BucketDto.CompactResponseDto;
+import com.example.moyeothon.Entity.BucketlistEntity;
+import com.example.moyeothon.Entity.MessageEntity;
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 쪽지 페이지 간략 응답 (같은 유저, 버킷리스트가 여러 쪽지에 반복되어도 id별로 한 번만 포함)
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class CompactMessagePageDTO {
+    private List<CompactMessageDTO> messages;
+    private Map<Long, UserSummaryDTO> users;
+    private Map<Long, CompactResponseDto> buckets;
+    private String nextCursor;
+    private boolean hasNext;
+
+    public static CompactMessagePageDTO of(List<MessageEntity> page, String nextCursor, boolean hasNext) {
+        List<CompactMessageDTO> messages = new ArrayList<>(page.size());
+        Map<Long, UserSummaryDTO> users = new LinkedHashMap<>();
+        Map<Long, CompactResponseDto> buckets = new LinkedHashMap<>();
+        for (MessageEntity message : page) {
+            messages.add(CompactMessageDTO.entityToDTO(message));
+            users.computeIfAbsent(message.getSender().getId(), id -> UserSummaryDTO.entityToDto(message.getSender()));
+            users.computeIfAbsent(message.getReceiver().getId(), id -> UserSummaryDTO.entityToDto(message.getReceiver()));
+            BucketlistEntity bucketList = message.getBucketList();
+            buckets.computeIfAbsent(bucketList.getId(), id -> CompactResponseDto.entityToDto(bucketList));
+            users.computeIfAbsent(bucketList.getUser().getId(), id -> UserSummaryDTO.entityToDto(bucketList.getUser()));
+        }
+        return new CompactMessagePageDTO(messages, users, buckets, nextCursor, hasNext);
+    }
+}
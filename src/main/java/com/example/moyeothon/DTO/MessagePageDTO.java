@@ -0,0 +1,25 @@
+package com.example.moyeothon.DTO;
+
+import com.example.moyeothon.Entity.MessageEntity;
+import lombok.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class MessagePageDTO {
+    private List<MessageDTO> messages;
+    private String nextCursor;
+    private boolean hasNext;
+
+    public static MessagePageDTO of(List<MessageEntity> page, String nextCursor, boolean hasNext) {
+        List<MessageDTO> messages = page.stream()
+                .map(MessageDTO::entityToDTO)
+                .collect(Collectors.toList());
+        return new MessagePageDTO(messages, nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.moyeothon.DTO;
+
+import lombok.*;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class UnreadCountDTO {
+    private String uid;
+    private long unreadCount;
+}
@@ -1,6 +1,7 @@
 package com.example.moyeothon.DTO;
 
 import com.example.moyeothon.Entity.UserEntity;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.*;
 import java.util.*;
 
@@ -12,17 +13,20 @@ import java.util.*;
 public class UserDTO {
     private Long id;
     private String uid;
+    // 요청(회원가입, 로그인, 수정)으로만 받고 응답에는 포함하지 않음
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     private String password;
     private String name;
     private String nickname;
     private String email;
     private String provider;
 
+    // 비밀번호 해시는 복사하지 않음
     public static UserDTO entityToDto(UserEntity userEntity) {
         return new UserDTO(
                 userEntity.getId(),
                 userEntity.getUid(),
-                userEntity.getPassword(),
+                null,
                 userEntity.getName(),
                 userEntity.getNickname(),
                 userEntity.getEmail(),
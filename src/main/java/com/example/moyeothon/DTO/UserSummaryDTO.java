@@ -0,0 +1,20 @@
+package com.example.moyeothon.DTO;
+
+import com.example.moyeothon.Entity.UserEntity;
+import lombok.*;
+
+// 목록 응답의 유저 정보 (응답당 한 번만 포함되는 요약 정보)
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class UserSummaryDTO {
+    private Long id;
+    private String uid;
+    private String nickname;
+
+    public static UserSummaryDTO entityToDto(UserEntity userEntity) {
+        return new UserSummaryDTO(userEntity.getId(), userEntity.getUid(), userEntity.getNickname());
+    }
+}
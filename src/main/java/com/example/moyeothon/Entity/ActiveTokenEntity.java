@@ -0,0 +1,22 @@
+package com.example.moyeothon.Entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 노드 간 공유되는 활성 토큰 (JdbcTokenStore에서 사용)
+@Entity(name = "active_tokens")
+@Table(indexes = @Index(name = "idx_active_tokens_expires_at", columnList = "expires_at"))
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class ActiveTokenEntity {
+    @Id
+    private String uid;
+
+    @Column(nullable = false, length = 64)
+    private String jti;
+
+    @Column(name = "expires_at", nullable = false)
+    private Long expiresAt;
+}
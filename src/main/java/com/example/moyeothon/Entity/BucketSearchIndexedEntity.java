@@ -0,0 +1,16 @@
+package com.example.moyeothon.Entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 검색 색인이 끝난 버킷리스트 (토큰이 없는 버킷리스트도 기록, 여러 노드가 동시에 백필할 때 중복 색인 방지)
+@Entity(name = "bucket_search_indexed")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class BucketSearchIndexedEntity {
+    @Id
+    @Column(name = "bucket_id")
+    private Long bucketId;
+}
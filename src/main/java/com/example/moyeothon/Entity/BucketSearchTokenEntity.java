@@ -0,0 +1,28 @@
+package com.example.moyeothon.Entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 버킷리스트 제목, 내용의 n-gram 역색인
+@Entity(name = "bucket_search_tokens")
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_bucket_search_token", columnNames = {"token", "bucket_id"}),
+        indexes = @Index(name = "idx_bucket_search_bucket", columnList = "bucket_id"))
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class BucketSearchTokenEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 8)
+    private String token;
+
+    @Column(name = "bucket_id", nullable = false)
+    private Long bucketId;
+
+    // 해당 버킷리스트 안에서 토큰이 등장한 횟수
+    @Column(nullable = false)
+    private Integer frequency;
+}
@@ -11,6 +11,7 @@ import lombok.Setter;
 @Getter
 @Setter
 @Entity
+@Table(indexes = @Index(name = "idx_bucket_public_id", columnList = "is_public, bucket_id"))
 @NoArgsConstructor
 @AllArgsConstructor
 public class BucketlistEntity {
@@ -27,6 +28,7 @@ public class BucketlistEntity {
 
     private String content;
 
+    @Column(name = "is_public")
     private boolean isPublic;
 
 
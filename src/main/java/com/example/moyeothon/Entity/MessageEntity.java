@@ -7,6 +7,12 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity(name = "messages")
+@Table(indexes = {
+        @Index(name = "idx_messages_receiver_time", columnList = "receiver_id, create_time"),
+        @Index(name = "idx_messages_sender_time", columnList = "sender_id, create_time"),
+        @Index(name = "idx_messages_bucket", columnList = "bucketList_id"),
+        @Index(name = "idx_messages_receiver_status", columnList = "receiver_id, status")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -17,17 +23,18 @@ public class MessageEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     private String content;
+    @Column(name = "create_time")
     private LocalDateTime createTime;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name="sender_id")
     private UserEntity sender;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name="receiver_id")
     private UserEntity receiver;
     
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name="bucketList_id")
     private BucketlistEntity bucketList;
 
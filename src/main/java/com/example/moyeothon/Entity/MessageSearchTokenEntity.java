@@ -0,0 +1,27 @@
+package com.example.moyeothon.Entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 쪽지 내용의 n-gram 역색인 (발신자, 수신자별로 기록하여 검색 시 해당 유저의 토큰 범위만 읽음)
+@Entity(name = "message_search_tokens")
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_message_search_token", columnNames = {"user_id", "token", "message_id"}),
+        indexes = @Index(name = "idx_message_search_message", columnList = "message_id"))
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class MessageSearchTokenEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 8)
+    private String token;
+
+    @Column(name = "message_id", nullable = false)
+    private Long messageId;
+}
@@ -0,0 +1,20 @@
+package com.example.moyeothon.Entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 노드 간 공유되는 무효화 토큰 (JdbcTokenStore에서 사용)
+@Entity(name = "revoked_tokens")
+@Table(indexes = @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at"))
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class RevokedTokenEntity {
+    @Id
+    @Column(length = 64)
+    private String jti;
+
+    @Column(name = "expires_at", nullable = false)
+    private Long expiresAt;
+}
@@ -0,0 +1,19 @@
+package com.example.moyeothon.Entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 유저별 안 읽은 수신 쪽지 수 (쪽지 전송/읽음/삭제 시 원자적으로 증감, 주기적으로 실제 값과 대조해 보정)
+@Entity(name = "unread_counters")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class UnreadCounterEntity {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "unread_count", nullable = false)
+    private long unreadCount;
+}
@@ -34,6 +34,11 @@ public class UserEntity implements UserDetails {
     @Builder.Default
     private Set<MessageEntity> messages = new HashSet<>();
 
+    // 아이디/비밀번호 로그인이 가능한 계정인지 여부 (소셜 로그인 계정은 비밀번호 해시가 없음)
+    public boolean hasPasswordLogin() {
+        return "normal".equals(provider) && password != null;
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return new HashSet<>();
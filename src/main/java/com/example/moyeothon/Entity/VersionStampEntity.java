@@ -0,0 +1,19 @@
+package com.example.moyeothon.Entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 목록 응답의 ETag 계산용 버전 (버킷리스트, 쪽지, 유저 정보 변경 시 같은 트랜잭션에서 증가)
+@Entity(name = "version_stamps")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class VersionStampEntity {
+    @Id
+    @Column(name = "stamp_key", length = 100)
+    private String stampKey;
+
+    @Column(nullable = false)
+    private long version;
+}
@@ -2,14 +2,63 @@ package com.example.moyeothon.Repository;
 
 
 import com.example.moyeothon.Entity.BucketlistEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface BucketRepository extends JpaRepository <BucketlistEntity, Long> {
     List<BucketlistEntity> findByUser_Uid(String uid);
-    List<BucketlistEntity> findByTitleContainingIgnoreCaseOrContentContainingIgnoreCase(String title, String content);
-    void deleteByUserUid(String uid);
+
+    // 공개 버킷리스트 전체 조회 (작성자 함께 조회)
+    @Query("select b from BucketlistEntity b join fetch b.user where b.isPublic = true order by b.id desc")
+    List<BucketlistEntity> findAllPublic();
+
+    // 공개 버킷리스트 전체 스트리밍 조회 (500건씩 가져오고 읽기 전용으로 스냅샷을 남기지 않음)
+    @QueryHints({@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"), @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")})
+    @Query("select b from BucketlistEntity b join fetch b.user where b.isPublic = true order by b.id desc")
+    Stream<BucketlistEntity> streamAllPublic();
+
+    // 해당 유저 버킷리스트 전체 스트리밍 조회
+    @QueryHints({@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"), @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")})
+    @Query("select b from BucketlistEntity b join fetch b.user u where u.uid = :uid")
+    Stream<BucketlistEntity> streamByUserUid(@Param("uid") String uid);
+
+    // 공개 버킷리스트 피드 첫 페이지 조회
+    @Query("select b from BucketlistEntity b join fetch b.user where b.isPublic = true order by b.id desc")
+    List<BucketlistEntity> findPublicFeed(Pageable pageable);
+
+    // 커서(bucket_id) 이전의 공개 버킷리스트 피드 조회
+    @Query("select b from BucketlistEntity b join fetch b.user where b.isPublic = true and b.id < :cursor order by b.id desc")
+    List<BucketlistEntity> findPublicFeedBefore(@Param("cursor") Long cursor, Pageable pageable);
+
+    @Query("select b from BucketlistEntity b join fetch b.user where b.id in :ids")
+    List<BucketlistEntity> findAllWithUserByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 검색 색인이 없는 버킷리스트 조회 (id 순, 토큰이 없는 버킷리스트는 색인 완료 기록으로 판단)
+    @Query("select b from BucketlistEntity b where b.id > :afterId " +
+            "and not exists (select t.id from bucket_search_tokens t where t.bucketId = b.id) " +
+            "and not exists (select i.bucketId from bucket_search_indexed i where i.bucketId = b.id) order by b.id")
+    List<BucketlistEntity> findUnindexedAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 해당 유저의 버킷리스트 id (삭제 청크 단위)
+    @Query("select b.id from BucketlistEntity b where b.user.id = :userId")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("select b from BucketlistEntity b join fetch b.user where b.id = :id")
+    Optional<BucketlistEntity> findWithUserById(@Param("id") Long id);
+
+    // 공개 버킷리스트 보유 여부 (유저 정보 변경 시 공개 목록 ETag 갱신 판단용)
+    @Query("select count(b) > 0 from BucketlistEntity b where b.user.id = :userId and b.isPublic = true")
+    boolean existsPublicByUserId(@Param("userId") Long userId);
 }
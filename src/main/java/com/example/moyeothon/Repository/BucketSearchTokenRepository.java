@@ -0,0 +1,39 @@
+package com.example.moyeothon.Repository;
+
+import com.example.moyeothon.Entity.BucketSearchTokenEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface BucketSearchTokenRepository extends JpaRepository<BucketSearchTokenEntity, Long> {
+
+    @Modifying
+    @Query("delete from bucket_search_tokens t where t.bucketId = :bucketId")
+    int deleteByBucketId(@Param("bucketId") Long bucketId);
+
+    @Modifying
+    @Query("delete from bucket_search_tokens t where t.bucketId in :bucketIds")
+    int deleteByBucketIdIn(@Param("bucketIds") Collection<Long> bucketIds);
+
+    // 색인 완료 기록 삭제
+    @Modifying
+    @Query("delete from bucket_search_indexed i where i.bucketId = :bucketId")
+    int deleteIndexedByBucketId(@Param("bucketId") Long bucketId);
+
+    @Modifying
+    @Query("delete from bucket_search_indexed i where i.bucketId in :bucketIds")
+    int deleteIndexedByBucketIdIn(@Param("bucketIds") Collection<Long> bucketIds);
+
+    // 검색어의 모든 토큰을 포함하는 공개 또는 본인 버킷리스트 id를 토큰 빈도 합 순으로 조회
+    @Query("select t.bucketId from bucket_search_tokens t, BucketlistEntity b " +
+            "where b.id = t.bucketId and t.token in :tokens and (b.isPublic = true or b.user.uid = :uid) " +
+            "group by t.bucketId having count(t) >= :minMatches " +
+            "order by sum(t.frequency) desc, t.bucketId desc")
+    List<Long> searchRankedBucketIds(@Param("tokens") Collection<String> tokens, @Param("minMatches") long minMatches,
+                                     @Param("uid") String uid, Pageable pageable);
+}
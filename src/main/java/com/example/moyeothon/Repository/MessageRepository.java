@@ -1,15 +1,197 @@
 package com.example.moyeothon.Repository;
 
 import com.example.moyeothon.Entity.MessageEntity;
+import com.example.moyeothon.Enum.MessageStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface MessageRepository extends JpaRepository<MessageEntity, Long> {
-    List<MessageEntity> findAllBySenderUidOrReceiverUid(String senderId, String receiverId);
-    List<MessageEntity> findBySenderUid(String senderId);
-    List<MessageEntity> findByReceiverUid(String receiverId);
-    List<MessageEntity> findByContentContainingIgnoreCase(String keyword);
-    void deleteBySenderUid(String uid);
-    void deleteByReceiverUid(String uid);
+
+    // 송수신자, 버킷리스트, 버킷리스트 작성자를 한 번의 쿼리로 함께 조회
+    @Query("select m from messages m join fetch m.sender s join fetch m.receiver r join fetch m.bucketList b join fetch b.user " +
+            "where s.uid = :uid or r.uid = :uid")
+    List<MessageEntity> findAllWithAssociationsByParticipantUid(@Param("uid") String uid);
+
+    @Query("select m from messages m join fetch m.sender s join fetch m.receiver r join fetch m.bucketList b join fetch b.user " +
+            "where s.uid = :uid")
+    List<MessageEntity> findAllWithAssociationsBySenderUid(@Param("uid") String uid);
+
+    @Query("select m from messages m join fetch m.sender s join fetch m.receiver r join fetch m.bucketList b join fetch b.user " +
+            "where r.uid = :uid")
+    List<MessageEntity> findAllWithAssociationsByReceiverUid(@Param("uid") String uid);
+
+    // 전체 조회의 스트리밍 버전 (500건씩 가져오고 읽기 전용으로 스냅샷을 남기지 않음)
+    @QueryHints({@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"), @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")})
+    @Query("select m from messages m join fetch m.sender s join fetch m.receiver r join fetch m.bucketList b join fetch b.user " +
+            "where s.uid = :uid or r.uid = :uid")
+    Stream<MessageEntity> streamAllWithAssociationsByParticipantUid(@Param("uid") String uid);
+
+    @QueryHints({@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"), @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")})
+    @Query("select m from messages m join fetch m.sender s join fetch m.receiver r join fetch m.bucketList b join fetch b.user " +
+            "where s.uid = :uid")
+    Stream<MessageEntity> streamAllWithAssociationsBySenderUid(@Param("uid") String uid);
+
+    @QueryHints({@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"), @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")})
+    @Query("select m from messages m join fetch m.sender s join fetch m.receiver r join fetch m.bucketList b join fetch b.user " +
+            "where r.uid = :uid")
+    Stream<MessageEntity> streamAllWithAssociationsByReceiverUid(@Param("uid") String uid);
+
+    // 수신함 첫 페이지 (receiver_id, create_time 인덱스 사용)
+    @Query("select m from messages m join fetch m.sender join fetch m.receiver join fetch m.bucketList b join fetch b.user " +
+            "where m.receiver.id = :userId order by m.createTime desc, m.id desc")
+    List<MessageEntity> findInbox(@Param("userId") Long userId, Pageable pageable);
+
+    // 커서 이후의 수신함 페이지
+    @Query("select m from messages m join fetch m.sender join fetch m.receiver join fetch m.bucketList b join fetch b.user " +
+            "where m.receiver.id = :userId " +
+            "and (m.createTime < :cursorTime or (m.createTime = :cursorTime and m.id < :cursorId)) " +
+            "order by m.createTime desc, m.id desc")
+    List<MessageEntity> findInboxBefore(@Param("userId") Long userId, @Param("cursorTime") LocalDateTime cursorTime,
+                                        @Param("cursorId") Long cursorId, Pageable pageable);
+
+    // 발신함 첫 페이지 (sender_id, create_time 인덱스 사용)
+    @Query("select m from messages m join fetch m.sender join fetch m.receiver join fetch m.bucketList b join fetch b.user " +
+            "where m.sender.id = :userId order by m.createTime desc, m.id desc")
+    List<MessageEntity> findOutbox(@Param("userId") Long userId, Pageable pageable);
+
+    // 커서 이후의 발신함 페이지
+    @Query("select m from messages m join fetch m.sender join fetch m.receiver join fetch m.bucketList b join fetch b.user " +
+            "where m.sender.id = :userId " +
+            "and (m.createTime < :cursorTime or (m.createTime = :cursorTime and m.id < :cursorId)) " +
+            "order by m.createTime desc, m.id desc")
+    List<MessageEntity> findOutboxBefore(@Param("userId") Long userId, @Param("cursorTime") LocalDateTime cursorTime,
+                                         @Param("cursorId") Long cursorId, Pageable pageable);
+
+    // 두 유저 사이 대화 첫 페이지
+    @Query("select m from messages m join fetch m.sender join fetch m.receiver join fetch m.bucketList b join fetch b.user " +
+            "where ((m.sender.id = :userId and m.receiver.id = :otherId) or (m.sender.id = :otherId and m.receiver.id = :userId)) " +
+            "order by m.createTime desc, m.id desc")
+    List<MessageEntity> findConversation(@Param("userId") Long userId, @Param("otherId") Long otherId, Pageable pageable);
+
+    // 커서 이후의 두 유저 사이 대화 페이지
+    @Query("select m from messages m join fetch m.sender join fetch m.receiver join fetch m.bucketList b join fetch b.user " +
+            "where ((m.sender.id = :userId and m.receiver.id = :otherId) or (m.sender.id = :otherId and m.receiver.id = :userId)) " +
+            "and (m.createTime < :cursorTime or (m.createTime = :cursorTime and m.id < :cursorId)) " +
+            "order by m.createTime desc, m.id desc")
+    List<MessageEntity> findConversationBefore(@Param("userId") Long userId, @Param("otherId") Long otherId,
+                                               @Param("cursorTime") LocalDateTime cursorTime, @Param("cursorId") Long cursorId,
+                                               Pageable pageable);
+
+    // 해당 유저가 주고받은 쪽지 중 검색어의 모든 토큰을 포함하는 쪽지 (n-gram 색인에서 해당 유저의 토큰 범위만 읽어 후보를 좁힘)
+    // 토큰은 순서, 인접 여부를 보지 않으므로 후보 쪽지에 한해 LIKE로 실제 포함 여부를 확인
+    @Query("select m from messages m join fetch m.sender join fetch m.receiver join fetch m.bucketList b join fetch b.user " +
+            "where m.id in (select t.messageId from message_search_tokens t where t.userId = :userId and t.token in :tokens " +
+            "group by t.messageId having count(t) >= :minMatches) " +
+            "and lower(m.content) like :pattern escape '!' " +
+            "order by m.createTime desc, m.id desc")
+    List<MessageEntity> findMatching(@Param("userId") Long userId, @Param("tokens") Collection<String> tokens,
+                                     @Param("minMatches") long minMatches, @Param("pattern") String pattern, Pageable pageable);
+
+    @Query("select m from messages m join fetch m.sender join fetch m.receiver join fetch m.bucketList b join fetch b.user " +
+            "where m.id in (select t.messageId from message_search_tokens t where t.userId = :userId and t.token in :tokens " +
+            "group by t.messageId having count(t) >= :minMatches) " +
+            "and lower(m.content) like :pattern escape '!' " +
+            "and (m.createTime < :cursorTime or (m.createTime = :cursorTime and m.id < :cursorId)) " +
+            "order by m.createTime desc, m.id desc")
+    List<MessageEntity> findMatchingBefore(@Param("userId") Long userId, @Param("tokens") Collection<String> tokens,
+                                           @Param("minMatches") long minMatches, @Param("pattern") String pattern,
+                                           @Param("cursorTime") LocalDateTime cursorTime, @Param("cursorId") Long cursorId,
+                                           Pageable pageable);
+
+    // 검색 색인이 없는 쪽지 (백필용, id 순)
+    @Query("select m from messages m where m.id > :afterId " +
+            "and not exists (select i.messageId from message_search_indexed i where i.messageId = m.id) order by m.id")
+    List<MessageEntity> findUnindexedAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 삭제 청크 단위 쪽지 id : 발신자 / 수신자 / 버킷리스트별로 나눠 각 인덱스 범위 안에서 조회
+    @Query("select m.id from messages m where m.sender.id = :userId")
+    List<Long> findIdsBySenderId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("select m.id from messages m where m.receiver.id = :userId")
+    List<Long> findIdsByReceiverId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("select m.id from messages m where m.bucketList.id in :bucketIds")
+    List<Long> findIdsByBucketListIdIn(@Param("bucketIds") Collection<Long> bucketIds, Pageable pageable);
+
+    // 해당 버킷리스트에 달린 쪽지 일괄 삭제
+    @Modifying
+    @Query("delete from messages m where m.bucketList.id = :bucketId")
+    int deleteByBucketListId(@Param("bucketId") Long bucketId);
+
+    // 수신자별 안 읽은 쪽지 수
+    interface ReceiverUnreadCount {
+        Long getReceiverId();
+        Long getUnreadCount();
+    }
+
+    @Query("select count(m) from messages m where m.receiver.id = :userId and m.status = :status")
+    long countByReceiverIdAndStatus(@Param("userId") Long userId, @Param("status") MessageStatus status);
+
+    @Query("select m.receiver.id as receiverId, count(m) as unreadCount from messages m " +
+            "where m.receiver.id in :userIds and m.status = :status group by m.receiver.id")
+    List<ReceiverUnreadCount> countByReceiverIdInAndStatus(@Param("userIds") Collection<Long> userIds, @Param("status") MessageStatus status);
+
+    @Query("select m.receiver.id as receiverId, count(m) as unreadCount from messages m " +
+            "where m.bucketList.id = :bucketId and m.status = :status group by m.receiver.id")
+    List<ReceiverUnreadCount> countByBucketListIdAndStatusGroupByReceiver(@Param("bucketId") Long bucketId, @Param("status") MessageStatus status);
+
+    @Query("select m.receiver.id as receiverId, count(m) as unreadCount from messages m " +
+            "where m.id in :ids and m.status = :status group by m.receiver.id")
+    List<ReceiverUnreadCount> countByIdInAndStatusGroupByReceiver(@Param("ids") Collection<Long> ids, @Param("status") MessageStatus status);
+
+    // 상태가 from인 경우에만 to로 변경 (동시 요청 시 한 번만 반영)
+    @Modifying
+    @Query("update messages m set m.status = :to where m.id = :id and m.status = :from")
+    int updateStatusIf(@Param("id") Long id, @Param("from") MessageStatus from, @Param("to") MessageStatus to);
+
+    // 수신자 본인의 쪽지만 한 번의 UPDATE로 상태 변경 (id 목록 / 버킷리스트 / 기준 시각 이전)
+    @Modifying
+    @Query("update messages m set m.status = :to where m.receiver.id = :userId and m.id in :ids and m.status = :from")
+    int updateStatusForReceiverByIds(@Param("userId") Long userId, @Param("ids") Collection<Long> ids,
+                                     @Param("from") MessageStatus from, @Param("to") MessageStatus to);
+
+    @Modifying
+    @Query("update messages m set m.status = :to where m.receiver.id = :userId and m.bucketList.id = :bucketId and m.status = :from")
+    int updateStatusForReceiverByBucket(@Param("userId") Long userId, @Param("bucketId") Long bucketId,
+                                        @Param("from") MessageStatus from, @Param("to") MessageStatus to);
+
+    @Modifying
+    @Query("update messages m set m.status = :to where m.receiver.id = :userId and m.createTime <= :before and m.status = :from")
+    int updateStatusForReceiverBefore(@Param("userId") Long userId, @Param("before") LocalDateTime before,
+                                      @Param("from") MessageStatus from, @Param("to") MessageStatus to);
+
+    // 일괄 읽음 처리로 상태가 바뀔 쪽지의 발신자 uid (발신함 ETag 갱신용)
+    @Query("select distinct m.sender.uid from messages m where m.receiver.id = :userId and m.id in :ids and m.status = :status")
+    List<String> findSenderUidsForReceiverByIds(@Param("userId") Long userId, @Param("ids") Collection<Long> ids, @Param("status") MessageStatus status);
+
+    @Query("select distinct m.sender.uid from messages m where m.receiver.id = :userId and m.bucketList.id = :bucketId and m.status = :status")
+    List<String> findSenderUidsForReceiverByBucket(@Param("userId") Long userId, @Param("bucketId") Long bucketId, @Param("status") MessageStatus status);
+
+    @Query("select distinct m.sender.uid from messages m where m.receiver.id = :userId and m.createTime <= :before and m.status = :status")
+    List<String> findSenderUidsForReceiverBefore(@Param("userId") Long userId, @Param("before") LocalDateTime before, @Param("status") MessageStatus status);
+
+    // 버킷리스트 변경 시 쪽지 목록 ETag를 갱신할 발신자/수신자 uid
+    @Query("select s.uid from messages m join m.sender s where m.bucketList.id = :bucketId " +
+            "union select r.uid from messages m join m.receiver r where m.bucketList.id = :bucketId")
+    List<String> findParticipantUidsByBucketListId(@Param("bucketId") Long bucketId);
+
+    // 유저 정보 변경 시 쪽지 목록 ETag를 갱신할 uid (주고받은 상대방과 해당 유저의 버킷리스트에 달린 쪽지의 발신자/수신자)
+    @Query("select s.uid from messages m join m.sender s where m.receiver.id = :userId or m.bucketList.user.id = :userId " +
+            "union select r.uid from messages m join m.receiver r where m.sender.id = :userId or m.bucketList.user.id = :userId")
+    List<String> findCorrespondentUids(@Param("userId") Long userId);
+
+    @Query("select s.uid from messages m join m.sender s where m.id in :ids " +
+            "union select r.uid from messages m join m.receiver r where m.id in :ids")
+    List<String> findParticipantUidsByIdIn(@Param("ids") Collection<Long> ids);
 }
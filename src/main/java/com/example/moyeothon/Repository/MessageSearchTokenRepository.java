@@ -0,0 +1,30 @@
+package com.example.moyeothon.Repository;
+
+import com.example.moyeothon.Entity.MessageSearchTokenEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+
+public interface MessageSearchTokenRepository extends JpaRepository<MessageSearchTokenEntity, Long> {
+
+    @Modifying
+    @Query("delete from message_search_tokens t where t.messageId in :messageIds")
+    int deleteByMessageIdIn(@Param("messageIds") Collection<Long> messageIds);
+
+    // 해당 버킷리스트에 달린 쪽지의 토큰 삭제 (쪽지 삭제 전 호출)
+    @Modifying
+    @Query("delete from message_search_tokens t where t.messageId in (select m.id from messages m where m.bucketList.id = :bucketId)")
+    int deleteByBucketListId(@Param("bucketId") Long bucketId);
+
+    // 색인 완료 기록 삭제
+    @Modifying
+    @Query("delete from message_search_indexed i where i.messageId in :messageIds")
+    int deleteIndexedByMessageIdIn(@Param("messageIds") Collection<Long> messageIds);
+
+    @Modifying
+    @Query("delete from message_search_indexed i where i.messageId in (select m.id from messages m where m.bucketList.id = :bucketId)")
+    int deleteIndexedByBucketListId(@Param("bucketId") Long bucketId);
+}
@@ -0,0 +1,31 @@
+package com.example.moyeothon.Repository;
+
+import com.example.moyeothon.Entity.UnreadCounterEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface UnreadCounterRepository extends JpaRepository<UnreadCounterEntity, Long> {
+
+    @Query("select c.unreadCount from unread_counters c where c.userId = :userId")
+    Long findUnreadCountByUserId(@Param("userId") Long userId);
+
+    // 카운터 원자적 증감 (0 미만으로 내려가지 않음, 카운터가 없으면 조회 시점에 생성되므로 0건 반영)
+    @Modifying
+    @Query("update unread_counters c set c.unreadCount = case when c.unreadCount + :delta < 0 then 0 else c.unreadCount + :delta end " +
+            "where c.userId = :userId")
+    int adjust(@Param("userId") Long userId, @Param("delta") long delta);
+
+    // 대조 시점 이후 값이 바뀌지 않은 경우에만 보정
+    @Modifying
+    @Query("update unread_counters c set c.unreadCount = :actual where c.userId = :userId and c.unreadCount = :expected")
+    int reconcile(@Param("userId") Long userId, @Param("expected") long expected, @Param("actual") long actual);
+
+    // 보정 작업용 카운터 청크 (user_id 순)
+    @Query("select c from unread_counters c where c.userId > :afterUserId order by c.userId")
+    List<UnreadCounterEntity> findChunkAfter(@Param("afterUserId") Long afterUserId, Pageable pageable);
+}
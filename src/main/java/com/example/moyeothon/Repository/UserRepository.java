@@ -1,10 +1,20 @@
 package com.example.moyeothon.Repository;
 
+import com.example.moyeothon.Config.JWT.UserPrincipal;
 import com.example.moyeothon.Entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<UserEntity, Long> {
     UserEntity findByUid(String uid);
     boolean existsByUid(String uid);
     boolean existsByNickname(String nickname);
+
+    @Query("select u.id from users u where u.uid = :uid")
+    Long findIdByUid(@Param("uid") String uid);
+
+    // 인증용 가벼운 사용자 정보 조회
+    @Query("select new com.example.moyeothon.Config.JWT.UserPrincipal(u.id, u.uid, u.nickname) from users u where u.uid = :uid")
+    UserPrincipal findPrincipalByUid(@Param("uid") String uid);
 }
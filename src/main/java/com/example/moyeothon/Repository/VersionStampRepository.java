@@ -0,0 +1,25 @@
+package com.example.moyeothon.Repository;
+
+import com.example.moyeothon.Entity.VersionStampEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface VersionStampRepository extends JpaRepository<VersionStampEntity, String> {
+
+    @Query("select v from version_stamps v where v.stampKey in :keys")
+    List<VersionStampEntity> findAllByKeys(@Param("keys") Collection<String> keys);
+
+    @Modifying
+    @Query("update version_stamps v set v.version = v.version + 1 where v.stampKey in :keys")
+    int bump(@Param("keys") Collection<String> keys);
+
+    // 이미 있는 키는 덮어쓰지 않도록 merge 대신 insert (중복 시 예외)
+    @Modifying
+    @Query("insert into version_stamps (stampKey, version) values (:key, 1)")
+    int insertInitial(@Param("key") String key);
+}
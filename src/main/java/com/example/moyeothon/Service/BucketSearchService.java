@@ -0,0 +1,161 @@
+package com.example.moyeothon.Service;
+
+import com.example.moyeothon.DTO.BucketDto.ResponseDto;
+import com.example.moyeothon.Entity.BucketlistEntity;
+import com.example.moyeothon.Repository.BucketRepository;
+import com.example.moyeothon.Repository.BucketSearchTokenRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 버킷리스트 제목, 내용에 대한 n-gram 역색인 관리 및 검색
+// 한국어는 띄어쓰기 단위가 아닌 음절 단위로 검색되므로 음절 1-gram, 2-gram을 함께 색인
+@Service
+@RequiredArgsConstructor
+public class BucketSearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BucketSearchService.class);
+    private static final int BACKFILL_BATCH_SIZE = 200;
+
+    private final BucketSearchTokenRepository bucketSearchTokenRepository;
+    private final BucketRepository bucketRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    // 버킷리스트 색인 (추가, 수정 시 호출, 기존 트랜잭션에 참여)
+    public void index(BucketlistEntity bucket) {
+        jdbcTemplate.update("INSERT INTO bucket_search_indexed (bucket_id) SELECT ? FROM DUAL " +
+                "WHERE NOT EXISTS (SELECT 1 FROM bucket_search_indexed WHERE bucket_id = ?)", bucket.getId(), bucket.getId());
+        writeTokens(bucket);
+    }
+
+    private void writeTokens(BucketlistEntity bucket) {
+        bucketSearchTokenRepository.deleteByBucketId(bucket.getId());
+        Map<String, Integer> tokens = tokenizeForIndex(
+                Objects.toString(bucket.getTitle(), "") + " " + Objects.toString(bucket.getContent(), ""));
+        List<Object[]> rows = tokens.entrySet().stream()
+                .map(entry -> new Object[]{entry.getKey(), bucket.getId(), entry.getValue()})
+                .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate("INSERT INTO bucket_search_tokens (token, bucket_id, frequency) VALUES (?, ?, ?)", rows);
+    }
+
+    // 버킷리스트 색인 제거 (삭제 시 호출)
+    public void remove(Long bucketId) {
+        bucketSearchTokenRepository.deleteByBucketId(bucketId);
+        bucketSearchTokenRepository.deleteIndexedByBucketId(bucketId);
+    }
+
+    // 공개 버킷리스트와 본인 버킷리스트 중 검색어를 포함하는 버킷리스트를 관련도 순으로 조회
+    public List<ResponseDto> search(String keyword, String uid, int page, int size) {
+        Set<String> tokens = tokenizeForQuery(keyword);
+        if (tokens.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Long> rankedIds = bucketSearchTokenRepository.searchRankedBucketIds(
+                tokens, tokens.size(), uid, PageRequest.of(page, size));
+        if (rankedIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Long, BucketlistEntity> buckets = bucketRepository.findAllWithUserByIdIn(rankedIds).stream()
+                .collect(Collectors.toMap(BucketlistEntity::getId, Function.identity()));
+        return rankedIds.stream()
+                .map(buckets::get)
+                .filter(Objects::nonNull)
+                .map(ResponseDto::entityToDto)
+                .collect(Collectors.toList());
+    }
+
+    // 색인이 없는 기존 버킷리스트를 애플리케이션 시작 시 색인
+    // 색인 완료 기록을 먼저 넣어 다른 노드와 같은 버킷리스트를 동시에 색인하면 키 충돌로 배치를 되돌리고,
+    // 다시 조회해 상대 노드가 색인한 버킷리스트는 건너뜀 (연속으로 충돌하면 중단하고 남은 색인은 다음 시작 시 처리)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        long afterId = 0L;
+        int indexed = 0;
+        boolean retried = false;
+        while (true) {
+            final long cursor = afterId;
+            List<BucketlistEntity> batch;
+            try {
+                batch = transactionTemplate.execute(status -> {
+                    List<BucketlistEntity> buckets = bucketRepository.findUnindexedAfter(cursor, PageRequest.of(0, BACKFILL_BATCH_SIZE));
+                    if (!buckets.isEmpty()) {
+                        jdbcTemplate.batchUpdate("INSERT INTO bucket_search_indexed (bucket_id) VALUES (?)",
+                                buckets.stream().map(bucket -> new Object[]{bucket.getId()}).collect(Collectors.toList()));
+                        buckets.forEach(this::writeTokens);
+                    }
+                    return buckets;
+                });
+            } catch (DataIntegrityViolationException e) {
+                if (retried) {
+                    logger.warn("다른 노드와 색인이 계속 충돌해 백필을 중단합니다 : {}", e.getMessage());
+                    break;
+                }
+                retried = true;
+                continue;
+            }
+            retried = false;
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            indexed += batch.size();
+            afterId = batch.get(batch.size() - 1).getId();
+        }
+        if (indexed > 0) {
+            logger.info("버킷리스트 검색 색인 생성 완료 : {}건", indexed);
+        }
+    }
+
+    // 색인용 토큰 : 단어별 음절 1-gram, 2-gram과 등장 횟수
+    static Map<String, Integer> tokenizeForIndex(String text) {
+        Map<String, Integer> tokens = new HashMap<>();
+        for (String word : words(text)) {
+            for (int i = 0; i < word.length(); i++) {
+                tokens.merge(word.substring(i, i + 1), 1, Integer::sum);
+                if (i + 2 <= word.length()) {
+                    tokens.merge(word.substring(i, i + 2), 1, Integer::sum);
+                }
+            }
+        }
+        return tokens;
+    }
+
+    // 검색용 토큰 : 한 글자 단어는 1-gram, 그 외에는 2-gram
+    static Set<String> tokenizeForQuery(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : words(text)) {
+            if (word.length() == 1) {
+                tokens.add(word);
+                continue;
+            }
+            for (int i = 0; i + 2 <= word.length(); i++) {
+                tokens.add(word.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
+
+    private static List<String> words(String text) {
+        if (text == null || text.isBlank()) {
+            return Collections.emptyList();
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return Arrays.stream(normalized.split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> !word.isEmpty())
+                .collect(Collectors.toList());
+    }
+}
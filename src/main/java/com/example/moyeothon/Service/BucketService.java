@@ -1,10 +1,13 @@
 package com.example.moyeothon.Service;
 
 
+import com.example.moyeothon.DTO.BucketDto.CompactFeedResponseDto;
+import com.example.moyeothon.DTO.BucketDto.FeedResponseDto;
 import com.example.moyeothon.DTO.BucketDto.RequestDto;
 import com.example.moyeothon.DTO.BucketDto.ResponseDto;
 import com.example.moyeothon.Entity.BucketlistEntity;
 import com.example.moyeothon.Entity.UserEntity;
+import com.example.moyeothon.Enum.MessageStatus;
 import com.example.moyeothon.Repository.BucketRepository;
 import com.example.moyeothon.Repository.MessageRepository;
 import com.example.moyeothon.Repository.UserRepository;
@@ -13,9 +16,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -27,9 +34,16 @@ import java.util.stream.Collectors;
 public class BucketService {
 
     private static final Logger logger = LoggerFactory.getLogger(BucketService.class);
+    private static final int DEFAULT_FEED_SIZE = 20;
+    private static final int MAX_FEED_SIZE = 100;
     private final UserRepository userRepository;
     private final BucketRepository bucketRepository;
     private final MessageRepository messageRepository;
+    private final BucketSearchService bucketSearchService;
+    private final MessageSearchService messageSearchService;
+    private final UnreadCounterService unreadCounterService;
+    private final VersionStampService versionStampService;
+    private final JsonStreamService jsonStreamService;
 
     // 버킷리스트 추가
     public ResponseDto addBucket(RequestDto requestDto, String uid, UserDetails userDetails){
@@ -38,6 +52,8 @@ public class BucketService {
         }
         UserEntity user = userRepository.findByUid(uid);
         BucketlistEntity bucketList = bucketRepository.save(new BucketlistEntity(requestDto, user));
+        bucketSearchService.index(bucketList);
+        bumpStamps(uid, bucketList.isPublic(), List.of());
         return ResponseDto.entityToDto(bucketList);
     }
 
@@ -59,13 +75,18 @@ public class BucketService {
         if (!userDetails.getUsername().equals(uid)) {
             throw new RuntimeException("인증되지 않은 유저입니다.");
         }
-        BucketlistEntity bucketList = bucketRepository.findById(id).orElseThrow();
+        BucketlistEntity bucketList = bucketRepository.findWithUserById(id).orElseThrow();
         if (!bucketList.getUser().getUid().equals(uid)) {
             throw new AccessDeniedException("권한이 없는 유저입니다.");
         }
-        messageRepository.deleteBySenderUid(uid);
-        messageRepository.deleteByReceiverUid(uid);
+        // 해당 버킷리스트에 달린 쪽지만 한 번에 삭제 (삭제 전 수신자별 안 읽은 쪽지 수만큼 카운터 감소)
+        List<String> participantUids = messageRepository.findParticipantUidsByBucketListId(id);
+        unreadCounterService.decrementAll(messageRepository.countByBucketListIdAndStatusGroupByReceiver(id, MessageStatus.안읽음));
+        messageSearchService.removeByBucketListId(id);
+        messageRepository.deleteByBucketListId(id);
+        bucketSearchService.remove(id);
         bucketRepository.delete(bucketList);
+        bumpStamps(uid, bucketList.isPublic(), participantUids);
         return ResponseDto.entityToDto(bucketList);
     }
 
@@ -78,7 +99,10 @@ public class BucketService {
         if(!bucketList.getUser().getUid().equals(uid)){
             throw new AccessDeniedException("권환이 없는 유저입니다.");
         }
+        boolean wasPublic = bucketList.isPublic();
         bucketList.update(requestDto);
+        bucketSearchService.index(bucketList);
+        bumpStamps(uid, wasPublic || bucketList.isPublic(), messageRepository.findParticipantUidsByBucketListId(id));
         return ResponseDto.entityToDto(bucketList);
     }
 
@@ -92,27 +116,98 @@ public class BucketService {
                 .collect(Collectors.toList());
     }
 
+    // 해당 유저 버킷리스트 전체 스트리밍 조회 (JSON 배열 또는 NDJSON)
+    public StreamingResponseBody streamUserAllBucket(String uid, MediaType format, UserDetails userDetails) {
+        if (!userDetails.getUsername().equals(uid)) {
+            throw new RuntimeException("인증되지 않은 유저입니다.");
+        }
+        return jsonStreamService.stream(() -> bucketRepository.streamByUserUid(uid), ResponseDto::entityToDto, format);
+    }
+
+    // 해당 유저 버킷리스트 목록 ETag
+    public String getUserBucketsETag(String uid, UserDetails userDetails) {
+        if (!userDetails.getUsername().equals(uid)) {
+            throw new RuntimeException("인증되지 않은 유저입니다.");
+        }
+        return versionStampService.eTag(VersionStampService.userBuckets(uid));
+    }
+
+    // 공개 버킷리스트 목록, 피드 ETag
+    public String getPublicBucketsETag(String uid, UserDetails userDetails) {
+        if (!userDetails.getUsername().equals(uid)) {
+            throw new RuntimeException("인증되지 않은 유저입니다.");
+        }
+        return versionStampService.eTag(VersionStampService.PUBLIC_BUCKETS);
+    }
+
     // 버킷리스트 전체 조회
     public List<ResponseDto> getAllBucket(String uid, UserDetails userDetails) {
         if (!userDetails.getUsername().equals(uid)) {
             throw new RuntimeException("인증되지 않은 유저입니다.");
         }
-        return bucketRepository.findAll()
+        return bucketRepository.findAllPublic()
                     .stream()
-                    .filter(bucket -> bucket.isPublic())
                     .map(ResponseDto::entityToDto)
                     .collect(Collectors.toList());
     }
 
-    // 제목, 내용 키워드별로 버킷리스트 검색하기
-    public List<ResponseDto> searchTitleAndContent(String keyword, String uid, UserDetails userDetails) {
+    // 버킷리스트 전체 스트리밍 조회 (JSON 배열 또는 NDJSON)
+    public StreamingResponseBody streamAllBucket(String uid, MediaType format, UserDetails userDetails) {
+        if (!userDetails.getUsername().equals(uid)) {
+            throw new RuntimeException("인증되지 않은 유저입니다.");
+        }
+        return jsonStreamService.stream(bucketRepository::streamAllPublic, ResponseDto::entityToDto, format);
+    }
+
+    // 공개 버킷리스트 피드 조회 (커서 기반 페이지네이션)
+    public FeedResponseDto getPublicFeed(String uid, Long cursor, Integer size, UserDetails userDetails) {
         if (!userDetails.getUsername().equals(uid)) {
             throw new RuntimeException("인증되지 않은 유저입니다.");
         }
-        return bucketRepository.findByTitleContainingIgnoreCaseOrContentContainingIgnoreCase(keyword, keyword)
-                .stream()
+        int pageSize = resolveFeedSize(size);
+        List<BucketlistEntity> rows = findPublicFeedRows(cursor, pageSize);
+        boolean hasNext = rows.size() > pageSize;
+        List<ResponseDto> buckets = rows.stream()
+                .limit(pageSize)
                 .map(ResponseDto::entityToDto)
                 .collect(Collectors.toList());
+        Long nextCursor = hasNext ? buckets.get(buckets.size() - 1).getId() : null;
+        return new FeedResponseDto(buckets, nextCursor, hasNext);
+    }
+
+    // 공개 버킷리스트 피드 간략 조회 (작성자 정보는 id별로 한 번만 포함)
+    public CompactFeedResponseDto getCompactPublicFeed(String uid, Long cursor, Integer size, UserDetails userDetails) {
+        if (!userDetails.getUsername().equals(uid)) {
+            throw new RuntimeException("인증되지 않은 유저입니다.");
+        }
+        int pageSize = resolveFeedSize(size);
+        List<BucketlistEntity> rows = findPublicFeedRows(cursor, pageSize);
+        boolean hasNext = rows.size() > pageSize;
+        List<BucketlistEntity> page = hasNext ? rows.subList(0, pageSize) : rows;
+        Long nextCursor = hasNext ? page.get(page.size() - 1).getId() : null;
+        return CompactFeedResponseDto.of(page, nextCursor, hasNext);
+    }
+
+    private int resolveFeedSize(Integer size) {
+        return (size == null || size <= 0) ? DEFAULT_FEED_SIZE : Math.min(size, MAX_FEED_SIZE);
+    }
+
+    // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+    private List<BucketlistEntity> findPublicFeedRows(Long cursor, int pageSize) {
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        return cursor == null
+                ? bucketRepository.findPublicFeed(limit)
+                : bucketRepository.findPublicFeedBefore(cursor, limit);
+    }
+
+    // 제목, 내용 키워드별로 버킷리스트 검색하기
+    public List<ResponseDto> searchTitleAndContent(String keyword, String uid, Integer page, Integer size, UserDetails userDetails) {
+        if (!userDetails.getUsername().equals(uid)) {
+            throw new RuntimeException("인증되지 않은 유저입니다.");
+        }
+        int pageNumber = (page == null || page < 0) ? 0 : page;
+        int pageSize = (size == null || size <= 0) ? DEFAULT_FEED_SIZE : Math.min(size, MAX_FEED_SIZE);
+        return bucketSearchService.search(keyword, uid, pageNumber, pageSize);
     }
 
     // 특정 버킷리스트의 공개 여부 변경
@@ -128,7 +223,18 @@ public class BucketService {
         boolean newIsPublic = !bucketlist.isPublic();
         bucketlist.setPublic(newIsPublic);
         bucketRepository.save(bucketlist);
+        bumpStamps(uid, true, List.of());
         logger.info("버킷리스트 ID {}의 공개 여부가 {}로 변경되었습니다.", bucketId, newIsPublic);
         return ResponseDto.entityToDto(bucketlist);
     }
+
+    // 버킷리스트 변경이 보이는 목록의 ETag만 갱신 (소유자 목록, 공개 버킷리스트였거나 공개된 경우 공개 목록, 해당 버킷리스트가 포함된 쪽지 목록)
+    private void bumpStamps(String uid, boolean touchesPublic, List<String> participantUids) {
+        List<String> keys = new ArrayList<>(VersionStampService.messages(participantUids));
+        keys.add(VersionStampService.userBuckets(uid));
+        if (touchesPublic) {
+            keys.add(VersionStampService.PUBLIC_BUCKETS);
+        }
+        versionStampService.bump(keys);
+    }
 }
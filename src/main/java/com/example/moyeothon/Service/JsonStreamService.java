@@ -0,0 +1,125 @@
+package com.example.moyeothon.Service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+// 대용량 목록을 List로 모으지 않고 조회 결과를 한 건씩 JSON 배열 또는 NDJSON으로 바로 출력
+// 조회 결과 크기와 관계없이 요청당 메모리는 fetch size 단위의 엔티티와 출력 버퍼만큼으로 유지
+// 응답을 모두 쓸 때까지 DB 커넥션을 점유하므로 동시 스트림 수를 커넥션 풀보다 작게 제한하고,
+// 느린 클라이언트로 인한 점유 시간은 spring.mvc.async.request-timeout으로 제한 (초과 시 비동기 요청이 종료되어 다음 쓰기에서 중단)
+@Service
+public class JsonStreamService {
+
+    // 영속성 컨텍스트 비우는 주기 (스트리밍 조회 쿼리의 fetch size와 맞춤)
+    private static final int CLEAR_INTERVAL = 500;
+
+    private final ObjectWriter objectWriter;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Semaphore activeStreams;
+
+    public JsonStreamService(ObjectMapper objectMapper, EntityManager entityManager, PlatformTransactionManager transactionManager,
+                             @Value("${stream.max-concurrent:4}") int maxConcurrentStreams) {
+        this.objectMapper = objectMapper;
+        // 항목마다 소켓으로 flush 하지 않고 출력 버퍼가 찰 때만 전송
+        this.objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.activeStreams = new Semaphore(maxConcurrentStreams);
+    }
+
+    // Accept 헤더에 NDJSON이 있으면 NDJSON, 아니면 JSON 배열
+    public static MediaType negotiate(String accept) {
+        if (accept != null) {
+            List<MediaType> accepted = MediaType.parseMediaTypes(accept);
+            if (accepted.stream().anyMatch(type -> !type.isWildcardType() && type.isCompatibleWith(MediaType.APPLICATION_NDJSON))) {
+                return MediaType.APPLICATION_NDJSON;
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    // 형식마다 본문이 다르므로 ETag에 형식을 포함하고, 캐시가 Accept별로 구분하도록 Vary 지정 (304 응답에도 포함)
+    public static boolean checkNotModified(ServletWebRequest webRequest, String eTag, MediaType format) {
+        if (webRequest.getResponse() != null) {
+            webRequest.getResponse().setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+        return webRequest.checkNotModified(eTag(eTag, format));
+    }
+
+    static String eTag(String eTag, MediaType format) {
+        String suffix = MediaType.APPLICATION_NDJSON.isCompatibleWith(format) ? "-ndjson" : "-json";
+        return eTag.substring(0, eTag.length() - 1) + suffix + '"';
+    }
+
+    // 응답 본문을 쓰는 동안에만 읽기 전용 트랜잭션을 열고 스트림을 소비
+    // 동시 스트림 수는 본문을 실제로 쓰기 시작할 때 확인 (본문이 실행되지 않고 끝난 요청이 허용량을 잡고 있지 않도록 함)
+    // 초과 시 커넥션을 기다리지 않고 바로 503 응답 (아직 아무것도 쓰지 않았으므로 상태 코드 변경 가능)
+    public <E> StreamingResponseBody stream(Supplier<Stream<E>> query, Function<E, ?> mapper, MediaType format) {
+        boolean ndjson = MediaType.APPLICATION_NDJSON.isCompatibleWith(format);
+        return out -> {
+            if (!activeStreams.tryAcquire()) {
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 잠시 후 다시 시도해주세요.");
+            }
+            try {
+                readOnlyTransaction.executeWithoutResult(status -> {
+                    try (Stream<E> rows = query.get();
+                         JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                        write(rows.iterator(), mapper, generator, ndjson);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } finally {
+                activeStreams.release();
+            }
+        };
+    }
+
+    private <E> void write(Iterator<E> rows, Function<E, ?> mapper, JsonGenerator generator, boolean ndjson) throws IOException {
+        if (ndjson) {
+            // 줄 단위 구분은 직접 쓰므로 최상위 값 사이의 기본 공백 구분자 제거
+            generator.setRootValueSeparator(null);
+        } else {
+            generator.writeStartArray();
+        }
+        int written = 0;
+        while (rows.hasNext()) {
+            objectWriter.writeValue(generator, mapper.apply(rows.next()));
+            if (ndjson) {
+                generator.writeRaw('\n');
+            }
+            // 이미 출력한 엔티티는 영속성 컨텍스트에서 제거
+            if (++written % CLEAR_INTERVAL == 0) {
+                entityManager.clear();
+            }
+        }
+        if (!ndjson) {
+            generator.writeEndArray();
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package com.example.moyeothon.Service;
+
+import com.example.moyeothon.DTO.MessageDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 새 쪽지를 수신자의 SSE 연결로 전달하는 프로세스 내 팬아웃 허브
+// 구독자마다 크기가 제한된 버퍼를 두고, 버퍼가 가득 차거나 한 번의 전송이 제한 시간을 넘길 만큼 느린 구독자는 연결을 끊어
+// 다른 구독자와 발행 측에 영향이 없도록 함 (전송 스레드의 작업 대기열도 크기를 제한해 메모리가 무한히 늘지 않도록 함)
+@Component
+public class MessagePushHub {
+
+    private static final Logger logger = LoggerFactory.getLogger(MessagePushHub.class);
+
+    private final Map<Long, Deque<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService sender;
+    private final long timeoutMillis;
+    private final long writeTimeoutNanos;
+    private final int bufferSize;
+    private final int maxSubscriptionsPerUser;
+    private final Counter evictedCounter;
+    private final Counter deliveredCounter;
+
+    @Autowired
+    public MessagePushHub(MeterRegistry meterRegistry,
+                          @Value("${message.push.timeout:30m}") Duration timeout,
+                          @Value("${message.push.write-timeout:10s}") Duration writeTimeout,
+                          @Value("${message.push.buffer-size:64}") int bufferSize,
+                          @Value("${message.push.max-subscriptions-per-user:5}") int maxSubscriptionsPerUser,
+                          @Value("${message.push.sender-threads:4}") int senderThreads,
+                          @Value("${message.push.sender-queue-size:1000}") int senderQueueSize) {
+        this(meterRegistry, timeout, writeTimeout, bufferSize, maxSubscriptionsPerUser, senderExecutor(senderThreads, senderQueueSize));
+    }
+
+    MessagePushHub(MeterRegistry meterRegistry, Duration timeout, Duration writeTimeout,
+                   int bufferSize, int maxSubscriptionsPerUser, ExecutorService sender) {
+        this.timeoutMillis = timeout.toMillis();
+        this.writeTimeoutNanos = writeTimeout.toNanos();
+        this.bufferSize = bufferSize;
+        this.maxSubscriptionsPerUser = maxSubscriptionsPerUser;
+        this.sender = sender;
+        this.evictedCounter = Counter.builder("message.push.evicted").register(meterRegistry);
+        this.deliveredCounter = Counter.builder("message.push.delivered").register(meterRegistry);
+        Gauge.builder("message.push.subscribers", subscriberCount, AtomicInteger::get).register(meterRegistry);
+    }
+
+    // 대기열이 가득 차면 RejectedExecutionException (호출 측에서 해당 구독자를 정리)
+    private static ExecutorService senderExecutor(int senderThreads, int senderQueueSize) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("message-push-");
+        threadFactory.setDaemon(true);
+        return new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(senderQueueSize), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // 구독 등록 (유저별 연결 수를 넘으면 가장 오래된 연결을 종료)
+    public SseEmitter subscribe(Long userId) {
+        Subscriber subscriber = new Subscriber(userId, new SseEmitter(timeoutMillis), new ArrayBlockingQueue<>(bufferSize));
+        subscriber.emitter.onCompletion(() -> unsubscribe(subscriber));
+        subscriber.emitter.onTimeout(() -> unsubscribe(subscriber));
+        subscriber.emitter.onError(e -> unsubscribe(subscriber));
+
+        Deque<Subscriber> userSubscribers = subscribers.compute(userId, (id, existing) -> {
+            Deque<Subscriber> deque = existing != null ? existing : new ConcurrentLinkedDeque<>();
+            deque.addLast(subscriber);
+            return deque;
+        });
+        subscriberCount.incrementAndGet();
+        while (userSubscribers.size() > maxSubscriptionsPerUser) {
+            Subscriber oldest = userSubscribers.pollFirst();
+            if (oldest != null && oldest.close()) {
+                subscriberCount.decrementAndGet();
+                oldest.emitter.complete();
+            }
+        }
+        try {
+            subscriber.emitter.send(SseEmitter.event().name("connected").data(userId));
+        } catch (IOException e) {
+            unsubscribe(subscriber);
+        }
+        return subscriber.emitter;
+    }
+
+    // 쪽지 트랜잭션 커밋 후 수신자에게 전달 (발행 측은 버퍼에 넣기만 하고 네트워크 전송은 전용 스레드에서 처리)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMessageCreated(MessageCreatedEvent event) {
+        publish(event.receiverId(), event.message());
+    }
+
+    public void publish(Long userId, MessageDTO message) {
+        Deque<Subscriber> userSubscribers = subscribers.get(userId);
+        if (userSubscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : userSubscribers) {
+            if (!subscriber.buffer.offer(message)) {
+                evict(subscriber, "버퍼 초과");
+                continue;
+            }
+            scheduleDrain(subscriber);
+        }
+    }
+
+    // 연결 유지 및 끊긴 연결 정리
+    // 전송 중인 구독자는 이미 데이터가 오가므로 ping을 보내지 않고, 한 번의 전송이 제한 시간을 넘겼다면 연결 종료
+    // (제한 시간 확인은 이 주기마다 하므로 실제 종료까지는 최대 write-timeout + heartbeat-interval)
+    @Scheduled(fixedDelayString = "${message.push.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        long now = System.nanoTime();
+        for (Deque<Subscriber> userSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : userSubscribers) {
+                long sendStartedAt = subscriber.sendStartedAt.get();
+                if (sendStartedAt != 0 && now - sendStartedAt > writeTimeoutNanos) {
+                    evict(subscriber, "전송 제한 시간 초과");
+                } else if (subscriber.draining.compareAndSet(false, true)) {
+                    submit(subscriber, () -> ping(subscriber));
+                }
+            }
+        }
+    }
+
+    // 구독자별로 한 번에 하나의 전송 작업만 실행되도록 보장
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            submit(subscriber, () -> drain(subscriber));
+        }
+    }
+
+    // 전송 대기열이 가득 찼다면 해당 구독자 연결 종료 (클라이언트는 재연결 후 목록을 다시 조회)
+    private void submit(Subscriber subscriber, Runnable task) {
+        try {
+            sender.execute(task);
+        } catch (RejectedExecutionException e) {
+            subscriber.draining.set(false);
+            evict(subscriber, "전송 대기열 초과");
+        }
+    }
+
+    private void ping(Subscriber subscriber) {
+        try {
+            send(subscriber, SseEmitter.event().comment("ping"));
+        } catch (IOException | IllegalStateException e) {
+            unsubscribe(subscriber);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+        // ping 전송 중 들어온 쪽지 처리
+        if (!subscriber.buffer.isEmpty()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            MessageDTO message;
+            while ((message = subscriber.buffer.poll()) != null) {
+                send(subscriber, SseEmitter.event()
+                        .name("message")
+                        .id(String.valueOf(message.getId()))
+                        .data(message));
+                deliveredCounter.increment();
+            }
+        } catch (IOException | IllegalStateException e) {
+            unsubscribe(subscriber);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+        // 전송 종료 직후 들어온 쪽지 처리
+        if (!subscriber.buffer.isEmpty()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    // 전송 시작 시각을 기록해 heartbeat에서 멈춘 전송을 찾을 수 있도록 함
+    private void send(Subscriber subscriber, SseEmitter.SseEventBuilder event) throws IOException {
+        if (subscriber.closed.get()) {
+            throw new IllegalStateException("종료된 구독입니다.");
+        }
+        subscriber.sendStartedAt.set(System.nanoTime());
+        try {
+            subscriber.emitter.send(event);
+        } finally {
+            subscriber.sendStartedAt.set(0);
+        }
+    }
+
+    private void evict(Subscriber subscriber, String reason) {
+        if (unsubscribe(subscriber)) {
+            evictedCounter.increment();
+            logger.warn("느린 구독자 연결 종료 - userId : {}, 사유 : {}", subscriber.userId, reason);
+            subscriber.emitter.complete();
+        }
+    }
+
+    private boolean unsubscribe(Subscriber subscriber) {
+        if (!subscriber.close()) {
+            return false;
+        }
+        subscriberCount.decrementAndGet();
+        subscribers.computeIfPresent(subscriber.userId, (id, userSubscribers) -> {
+            userSubscribers.remove(subscriber);
+            return userSubscribers.isEmpty() ? null : userSubscribers;
+        });
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    // 쪽지 생성 이벤트 (MessageService에서 발행)
+    public record MessageCreatedEvent(Long receiverId, MessageDTO message) {
+    }
+
+    private static final class Subscriber {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<MessageDTO> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        // 진행 중인 전송의 시작 시각 (System.nanoTime, 전송 중이 아니면 0)
+        private final AtomicLong sendStartedAt = new AtomicLong();
+
+        private Subscriber(Long userId, SseEmitter emitter, BlockingQueue<MessageDTO> buffer) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.buffer = buffer;
+        }
+
+        // 처음 닫는 경우에만 true
+        private boolean close() {
+            return closed.compareAndSet(false, true);
+        }
+    }
+}
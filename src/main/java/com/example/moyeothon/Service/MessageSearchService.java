@@ -0,0 +1,104 @@
+package com.example.moyeothon.Service;
+
+import com.example.moyeothon.Entity.MessageEntity;
+import com.example.moyeothon.Repository.MessageRepository;
+import com.example.moyeothon.Repository.MessageSearchTokenRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+// 쪽지 내용에 대한 n-gram 역색인 관리 (토큰화는 버킷리스트 검색과 동일)
+// 쪽지는 발신자와 수신자만 검색할 수 있으므로 토큰을 유저별로 기록하여 검색 시 해당 유저의 토큰 범위만 읽음
+@Service
+@RequiredArgsConstructor
+public class MessageSearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MessageSearchService.class);
+    private static final int BACKFILL_BATCH_SIZE = 200;
+
+    private final MessageSearchTokenRepository messageSearchTokenRepository;
+    private final MessageRepository messageRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    // 쪽지 색인 (전송, 답장 시 호출, 기존 트랜잭션에 참여)
+    public void index(MessageEntity message) {
+        jdbcTemplate.update("INSERT INTO message_search_indexed (message_id) SELECT ? FROM DUAL " +
+                "WHERE NOT EXISTS (SELECT 1 FROM message_search_indexed WHERE message_id = ?)", message.getId(), message.getId());
+        messageSearchTokenRepository.deleteByMessageIdIn(List.of(message.getId()));
+        writeTokens(message);
+    }
+
+    private void writeTokens(MessageEntity message) {
+        Set<Long> participantIds = new LinkedHashSet<>(List.of(message.getSender().getId(), message.getReceiver().getId()));
+        Set<String> tokens = BucketSearchService.tokenizeForIndex(message.getContent()).keySet();
+        List<Object[]> rows = new ArrayList<>(tokens.size() * participantIds.size());
+        for (Long userId : participantIds) {
+            tokens.forEach(token -> rows.add(new Object[]{userId, token, message.getId()}));
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO message_search_tokens (user_id, token, message_id) VALUES (?, ?, ?)", rows);
+    }
+
+    // 쪽지 색인 제거 (삭제 시 호출)
+    public void remove(Collection<Long> messageIds) {
+        messageSearchTokenRepository.deleteByMessageIdIn(messageIds);
+        messageSearchTokenRepository.deleteIndexedByMessageIdIn(messageIds);
+    }
+
+    // 해당 버킷리스트에 달린 쪽지의 색인 제거 (쪽지 일괄 삭제 전 호출)
+    public void removeByBucketListId(Long bucketId) {
+        messageSearchTokenRepository.deleteByBucketListId(bucketId);
+        messageSearchTokenRepository.deleteIndexedByBucketListId(bucketId);
+    }
+
+    // 색인이 없는 기존 쪽지를 애플리케이션 시작 시 색인 (다른 노드와 충돌 시 처리는 버킷리스트 백필과 동일)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        long afterId = 0L;
+        int indexed = 0;
+        boolean retried = false;
+        while (true) {
+            final long cursor = afterId;
+            List<MessageEntity> batch;
+            try {
+                batch = transactionTemplate.execute(status -> {
+                    List<MessageEntity> messages = messageRepository.findUnindexedAfter(cursor, PageRequest.of(0, BACKFILL_BATCH_SIZE));
+                    if (!messages.isEmpty()) {
+                        jdbcTemplate.batchUpdate("INSERT INTO message_search_indexed (message_id) VALUES (?)",
+                                messages.stream().map(message -> new Object[]{message.getId()}).collect(Collectors.toList()));
+                        messages.forEach(this::writeTokens);
+                    }
+                    return messages;
+                });
+            } catch (DataIntegrityViolationException e) {
+                if (retried) {
+                    logger.warn("다른 노드와 색인이 계속 충돌해 쪽지 백필을 중단합니다 : {}", e.getMessage());
+                    break;
+                }
+                retried = true;
+                continue;
+            }
+            retried = false;
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            indexed += batch.size();
+            afterId = batch.get(batch.size() - 1).getId();
+        }
+        if (indexed > 0) {
+            logger.info("쪽지 검색 색인 생성 완료 : {}건", indexed);
+        }
+    }
+}
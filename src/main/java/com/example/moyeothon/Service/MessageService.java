@@ -1,6 +1,10 @@
 package com.example.moyeothon.Service;
 
+import com.example.moyeothon.DTO.BulkReadResultDTO;
+import com.example.moyeothon.DTO.CompactMessagePageDTO;
 import com.example.moyeothon.DTO.MessageDTO;
+import com.example.moyeothon.DTO.MessagePageDTO;
+import com.example.moyeothon.DTO.UnreadCountDTO;
 import com.example.moyeothon.Entity.BucketlistEntity;
 import com.example.moyeothon.Entity.MessageEntity;
 import com.example.moyeothon.Entity.UserEntity;
@@ -8,24 +12,48 @@ import com.example.moyeothon.Enum.MessageStatus;
 import com.example.moyeothon.Repository.BucketRepository;
 import com.example.moyeothon.Repository.MessageRepository;
 import com.example.moyeothon.Repository.UserRepository;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Transactional
 public class MessageService {
 
     private static final Logger logger = LoggerFactory.getLogger(MessageService.class);
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_BULK_READ_IDS = 1000;
     private final MessageRepository messageRepository;
     private final UserRepository userRepository;
     private final BucketRepository bucketRepository;
+    private final UnreadCounterService unreadCounterService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MessagePushHub messagePushHub;
+    private final VersionStampService versionStampService;
+    private final JsonStreamService jsonStreamService;
+    private final MessageSearchService messageSearchService;
 
     // 쪽지 전송
     public MessageDTO createMessage(String uid, Long bucketListId, MessageDTO messageDTO, UserDetails userDetails) {
@@ -41,8 +69,15 @@ public class MessageService {
         MessageEntity messageEntity = messageDTO.dtoToEntity(sender, receiver, bucketList);
         messageEntity.setCreateTime(LocalDateTime.now());
         messageEntity.setStatus(MessageStatus.안읽음);
+        MessageEntity savedMessage = messageRepository.save(messageEntity);
+        messageSearchService.index(savedMessage);
+        unreadCounterService.increment(receiver.getId());
+        versionStampService.bump(VersionStampService.messages(uid), VersionStampService.messages(receiver.getUid()));
+        MessageDTO savedMessageDTO = MessageDTO.entityToDTO(savedMessage);
+        // 커밋 후 수신자의 실시간 구독 연결로 전달
+        eventPublisher.publishEvent(new MessagePushHub.MessageCreatedEvent(receiver.getId(), savedMessageDTO));
         logger.info("쪽지 전송 성공!");
-        return MessageDTO.entityToDTO(messageRepository.save(messageEntity));
+        return savedMessageDTO;
     }
 
     // 쪽지 답장
@@ -63,8 +98,15 @@ public class MessageService {
         MessageEntity messageEntity = messageDTO.dtoToEntity(sender, receiver, bucketList);
         messageEntity.setCreateTime(LocalDateTime.now());
         messageEntity.setStatus(MessageStatus.안읽음);
+        MessageEntity savedMessage = messageRepository.save(messageEntity);
+        messageSearchService.index(savedMessage);
+        unreadCounterService.increment(receiver.getId());
+        versionStampService.bump(VersionStampService.messages(uid), VersionStampService.messages(receiver.getUid()));
+        MessageDTO savedMessageDTO = MessageDTO.entityToDTO(savedMessage);
+        // 커밋 후 수신자의 실시간 구독 연결로 전달
+        eventPublisher.publishEvent(new MessagePushHub.MessageCreatedEvent(receiver.getId(), savedMessageDTO));
         logger.info("쪽지 답장 성공!");
-        return MessageDTO.entityToDTO(messageRepository.save(messageEntity));
+        return savedMessageDTO;
     }
 
     // 쪽지 읽음 상태로 변경
@@ -76,10 +118,69 @@ public class MessageService {
         if (!messageEntity.getSender().getUid().equals(uid)) {
             throw new RuntimeException("해당 유저의 쪽지가 아닙니다.");
         }
-        messageEntity.setStatus(MessageStatus.읽음);
-        messageRepository.save(messageEntity);
+        // 안읽음 -> 읽음으로 실제 바뀐 경우에만 카운터 감소 (동시 요청 시 중복 감소 방지)
+        if (messageRepository.updateStatusIf(messageId, MessageStatus.안읽음, MessageStatus.읽음) == 1) {
+            unreadCounterService.decrement(messageEntity.getReceiver().getId(), 1);
+            versionStampService.bump(VersionStampService.messages(messageEntity.getSender().getUid()),
+                    VersionStampService.messages(messageEntity.getReceiver().getUid()));
+        }
         logger.info("쪽지 상태 변경 성공!");
-        return MessageDTO.entityToDTO(messageEntity);
+        MessageDTO readMessage = MessageDTO.entityToDTO(messageEntity);
+        readMessage.setStatus(MessageStatus.읽음);
+        return readMessage;
+    }
+
+    // 선택한 수신 쪽지 일괄 읽음 처리
+    public BulkReadResultDTO readMessages(String uid, List<Long> messageIds, UserDetails userDetails) {
+        if (!userDetails.getUsername().equals(uid)) {
+            throw new RuntimeException("인증되지 않은 유저입니다.");
+        }
+        if (messageIds == null || messageIds.isEmpty()) {
+            throw new IllegalArgumentException("읽음 처리할 쪽지를 선택해주세요.");
+        }
+        if (messageIds.size() > MAX_BULK_READ_IDS) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_BULK_READ_IDS + "개의 쪽지만 읽음 처리할 수 있습니다.");
+        }
+        Long userId = findUserId(uid);
+        List<String> senderUids = messageRepository.findSenderUidsForReceiverByIds(userId, messageIds, MessageStatus.안읽음);
+        int updated = messageRepository.updateStatusForReceiverByIds(userId, messageIds, MessageStatus.안읽음, MessageStatus.읽음);
+        return toBulkReadResult(uid, userId, senderUids, updated);
+    }
+
+    // 해당 버킷리스트로 받은 쪽지 일괄 읽음 처리
+    public BulkReadResultDTO readMessagesInBucket(String uid, Long bucketListId, UserDetails userDetails) {
+        if (!userDetails.getUsername().equals(uid)) {
+            throw new RuntimeException("인증되지 않은 유저입니다.");
+        }
+        Long userId = findUserId(uid);
+        List<String> senderUids = messageRepository.findSenderUidsForReceiverByBucket(userId, bucketListId, MessageStatus.안읽음);
+        int updated = messageRepository.updateStatusForReceiverByBucket(userId, bucketListId, MessageStatus.안읽음, MessageStatus.읽음);
+        return toBulkReadResult(uid, userId, senderUids, updated);
+    }
+
+    // 기준 시각 이전에 받은 쪽지 일괄 읽음 처리
+    public BulkReadResultDTO readMessagesBefore(String uid, LocalDateTime before, UserDetails userDetails) {
+        if (!userDetails.getUsername().equals(uid)) {
+            throw new RuntimeException("인증되지 않은 유저입니다.");
+        }
+        Long userId = findUserId(uid);
+        List<String> senderUids = messageRepository.findSenderUidsForReceiverBefore(userId, before, MessageStatus.안읽음);
+        int updated = messageRepository.updateStatusForReceiverBefore(userId, before, MessageStatus.안읽음, MessageStatus.읽음);
+        return toBulkReadResult(uid, userId, senderUids, updated);
+    }
+
+    // 실제로 안읽음 -> 읽음으로 바뀐 건수만큼 카운터 감소, 수신자와 발신자들의 쪽지 목록 버전 증가
+    private BulkReadResultDTO toBulkReadResult(String uid, Long userId, List<String> senderUids, int updated) {
+        unreadCounterService.decrement(userId, updated);
+        if (updated > 0) {
+            List<String> keys = new ArrayList<>();
+            keys.add(VersionStampService.messages(uid));
+            senderUids.forEach(senderUid -> keys.add(VersionStampService.messages(senderUid)));
+            versionStampService.bump(keys);
+        }
+        logger.info("쪽지 일괄 읽음 처리 성공! {}건", updated);
+        // 상태 변경과 같은 트랜잭션에서 조회 (별도 트랜잭션은 커밋 전 변경을 보지 못해 많게 세고 커넥션도 하나 더 점유함)
+        return new BulkReadResultDTO(updated, unreadCounterService.getUnreadCountInCurrentTransaction(userId));
     }
 
     // 쪽지 삭제
@@ -92,6 +193,12 @@ public class MessageService {
             throw new RuntimeException("해당 유저의 쪽지가 아닙니다.");
         }
         messageRepository.delete(messageEntity);
+        messageSearchService.remove(List.of(messageId));
+        if (messageEntity.getStatus() == MessageStatus.안읽음) {
+            unreadCounterService.decrement(messageEntity.getReceiver().getId(), 1);
+        }
+        versionStampService.bump(VersionStampService.messages(messageEntity.getSender().getUid()),
+                VersionStampService.messages(messageEntity.getReceiver().getUid()));
         logger.info("쪽지 삭제 성공!");
         return MessageDTO.entityToDTO(messageEntity);
     }
@@ -101,7 +208,7 @@ public class MessageService {
         if (!userDetails.getUsername().equals(uid)) {
             throw new RuntimeException("인증되지 않은 유저입니다.");
         }
-        return messageRepository.findAllBySenderUidOrReceiverUid(uid, uid)
+        return messageRepository.findAllWithAssociationsByParticipantUid(uid)
                 .stream()
                 .map(MessageDTO::entityToDTO)
                 .collect(Collectors.toList());
@@ -112,7 +219,7 @@ public class MessageService {
         if (!userDetails.getUsername().equals(uid)) {
             throw new RuntimeException("인증되지 않은 유저입니다.");
         }
-        return messageRepository.findBySenderUid(uid)
+        return messageRepository.findAllWithAssociationsBySenderUid(uid)
                 .stream()
                 .map(MessageDTO::entityToDTO)
                 .collect(Collectors.toList());
@@ -123,21 +230,233 @@ public class MessageService {
         if (!userDetails.getUsername().equals(uid)) {
             throw new RuntimeException("인증되지 않은 유저입니다.");
         }
-        return messageRepository.findByReceiverUid(uid)
+        return messageRepository.findAllWithAssociationsByReceiverUid(uid)
                 .stream()
                 .map(MessageDTO::entityToDTO)
                 .collect(Collectors.toList());
     }
 
+    // 해당 유저 송수신 쪽지 전체 스트리밍 조회 (JSON 배열 또는 NDJSON)
+    public StreamingResponseBody streamAllMessagesForUser(String uid, MediaType format, UserDetails userDetails) {
+        if (!userDetails.getUsername().equals(uid)) {
+            throw new RuntimeException("인증되지 않은 유저입니다.");
+        }
+        return jsonStreamService.stream(() -> messageRepository.streamAllWithAssociationsByParticipantUid(uid), MessageDTO::entityToDTO, format);
+    }
+
+    // 해당 유저 송신 쪽지 전체 스트리밍 조회
+    public StreamingResponseBody streamAllMessageForSender(String uid, MediaType format, UserDetails userDetails) {
+        if (!userDetails.getUsername().equals(uid)) {
+            throw new RuntimeException("인증되지 않은 유저입니다.");
+        }
+        return jsonStreamService.stream(() -> messageRepository.streamAllWithAssociationsBySenderUid(uid), MessageDTO::entityToDTO, format);
+    }
+
+    // 해당 유저 수신 쪽지 전체 스트리밍 조회
+    public StreamingResponseBody streamAllMessageForReceiver(String uid, MediaType format, UserDetails userDetails) {
+        if (!userDetails.getUsername().equals(uid)) {
+            throw new RuntimeException("인증되지 않은 유저입니다.");
+        }
+        return jsonStreamService.stream(() -> messageRepository.streamAllWithAssociationsByReceiverUid(uid), MessageDTO::entityToDTO, format);
+    }
+
     // 특정 키워드가 포함된 쪽지 검색 (카테고리 키워드 검색 구현 전 연습)
+    // 기존 응답 형태를 유지하기 위해 검색 결과 전체를 반환 (색인 검색 페이지를 끝까지 이어 읽음, 결과가 많으면 /message/search/page 사용 권장)
     public List<MessageDTO> searchMessagesByContent(String keyword, String uid, UserDetails userDetails) {
+        List<MessageDTO> messages = new ArrayList<>();
+        String cursor = null;
+        do {
+            MessagePageDTO page = searchMessages(keyword, uid, cursor, MAX_PAGE_SIZE, userDetails);
+            messages.addAll(page.getMessages());
+            cursor = page.isHasNext() ? page.getNextCursor() : null;
+        } while (cursor != null);
+        return messages;
+    }
+
+    // 해당 유저가 주고받은 쪽지 중 키워드가 포함된 쪽지 검색 (최신순, 커서 기반)
+    // 쪽지 n-gram 색인에서 해당 유저의 검색어 토큰 범위만 읽어 후보를 찾으므로 비용은 검색어와 일치하는 쪽지 수에만 비례
+    public MessagePageDTO searchMessages(String keyword, String uid, String cursor, Integer size, UserDetails userDetails) {
         if (!userDetails.getUsername().equals(uid)) {
             throw new RuntimeException("인증되지 않은 유저입니다.");
         }
-        return messageRepository.findByContentContainingIgnoreCase(keyword)
-                .stream()
-                .filter(message -> message.getSender().getUid().equals(uid) || message.getReceiver().getUid().equals(uid))
-                .map(MessageDTO::entityToDTO)
-                .collect(Collectors.toList());
+        Long userId = findUserId(uid);
+        int pageSize = resolvePageSize(size);
+        MessageCursor after = MessageCursor.parse(cursor);
+        Set<String> tokens = BucketSearchService.tokenizeForQuery(keyword);
+        if (tokens.isEmpty()) {
+            return toPage(List.of(), pageSize);
+        }
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        String pattern = likePattern(keyword);
+        List<MessageEntity> rows = after == null
+                ? messageRepository.findMatching(userId, tokens, tokens.size(), pattern, limit)
+                : messageRepository.findMatchingBefore(userId, tokens, tokens.size(), pattern, after.createTime(), after.id(), limit);
+        return toPage(rows, pageSize);
+    }
+
+    // LIKE 검색 패턴 (와일드카드 문자는 '!'로 이스케이프)
+    private String likePattern(String keyword) {
+        String escaped = keyword.toLowerCase(Locale.ROOT)
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+        return "%" + escaped + "%";
+    }
+
+    // 해당 유저 쪽지 목록 ETag (쪽지에 포함된 버킷리스트, 유저 정보 변경 시에도 BucketService, UserService에서 갱신)
+    public String getMessagesETag(String uid, UserDetails userDetails) {
+        if (!userDetails.getUsername().equals(uid)) {
+            throw new RuntimeException("인증되지 않은 유저입니다.");
+        }
+        return versionStampService.eTag(VersionStampService.messages(uid));
+    }
+
+    // 새 쪽지 실시간 구독 (SSE)
+    public SseEmitter subscribe(String uid, UserDetails userDetails) {
+        if (userDetails == null || !userDetails.getUsername().equals(uid)) {
+            throw new RuntimeException("인증되지 않은 유저입니다.");
+        }
+        return messagePushHub.subscribe(findUserId(uid));
+    }
+
+    // 안 읽은 수신 쪽지 수 조회
+    public UnreadCountDTO getUnreadCount(String uid, UserDetails userDetails) {
+        if (!userDetails.getUsername().equals(uid)) {
+            throw new RuntimeException("인증되지 않은 유저입니다.");
+        }
+        return new UnreadCountDTO(uid, unreadCounterService.getUnreadCount(findUserId(uid)));
+    }
+
+    // 수신함 페이지 조회 (최신순, 커서 기반)
+    public MessagePageDTO getInbox(String uid, String cursor, Integer size, UserDetails userDetails) {
+        return inboxPage(uid, cursor, size, userDetails, MessagePageDTO::of);
+    }
+
+    // 수신함 페이지 간략 조회 (유저, 버킷리스트는 id별로 한 번만 포함)
+    public CompactMessagePageDTO getCompactInbox(String uid, String cursor, Integer size, UserDetails userDetails) {
+        return inboxPage(uid, cursor, size, userDetails, CompactMessagePageDTO::of);
+    }
+
+    private <T> T inboxPage(String uid, String cursor, Integer size, UserDetails userDetails, PageAssembler<T> assembler) {
+        if (!userDetails.getUsername().equals(uid)) {
+            throw new RuntimeException("인증되지 않은 유저입니다.");
+        }
+        Long userId = findUserId(uid);
+        int pageSize = resolvePageSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        MessageCursor after = MessageCursor.parse(cursor);
+        List<MessageEntity> rows = after == null
+                ? messageRepository.findInbox(userId, limit)
+                : messageRepository.findInboxBefore(userId, after.createTime(), after.id(), limit);
+        return toPage(rows, pageSize, assembler);
+    }
+
+    // 발신함 페이지 조회 (최신순, 커서 기반)
+    public MessagePageDTO getOutbox(String uid, String cursor, Integer size, UserDetails userDetails) {
+        return outboxPage(uid, cursor, size, userDetails, MessagePageDTO::of);
+    }
+
+    // 발신함 페이지 간략 조회 (유저, 버킷리스트는 id별로 한 번만 포함)
+    public CompactMessagePageDTO getCompactOutbox(String uid, String cursor, Integer size, UserDetails userDetails) {
+        return outboxPage(uid, cursor, size, userDetails, CompactMessagePageDTO::of);
+    }
+
+    private <T> T outboxPage(String uid, String cursor, Integer size, UserDetails userDetails, PageAssembler<T> assembler) {
+        if (!userDetails.getUsername().equals(uid)) {
+            throw new RuntimeException("인증되지 않은 유저입니다.");
+        }
+        Long userId = findUserId(uid);
+        int pageSize = resolvePageSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        MessageCursor after = MessageCursor.parse(cursor);
+        List<MessageEntity> rows = after == null
+                ? messageRepository.findOutbox(userId, limit)
+                : messageRepository.findOutboxBefore(userId, after.createTime(), after.id(), limit);
+        return toPage(rows, pageSize, assembler);
+    }
+
+    // 상대 유저와 주고받은 쪽지 페이지 조회 (최신순, 커서 기반)
+    public MessagePageDTO getConversation(String uid, String otherUid, String cursor, Integer size, UserDetails userDetails) {
+        return conversationPage(uid, otherUid, cursor, size, userDetails, MessagePageDTO::of);
+    }
+
+    // 상대 유저와 주고받은 쪽지 페이지 간략 조회 (유저, 버킷리스트는 id별로 한 번만 포함)
+    public CompactMessagePageDTO getCompactConversation(String uid, String otherUid, String cursor, Integer size, UserDetails userDetails) {
+        return conversationPage(uid, otherUid, cursor, size, userDetails, CompactMessagePageDTO::of);
+    }
+
+    private <T> T conversationPage(String uid, String otherUid, String cursor, Integer size, UserDetails userDetails, PageAssembler<T> assembler) {
+        if (!userDetails.getUsername().equals(uid)) {
+            throw new RuntimeException("인증되지 않은 유저입니다.");
+        }
+        Long userId = findUserId(uid);
+        Long otherUserId = findUserId(otherUid);
+        int pageSize = resolvePageSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        MessageCursor after = MessageCursor.parse(cursor);
+        List<MessageEntity> rows = after == null
+                ? messageRepository.findConversation(userId, otherUserId, limit)
+                : messageRepository.findConversationBefore(userId, otherUserId, after.createTime(), after.id(), limit);
+        return toPage(rows, pageSize, assembler);
+    }
+
+    private Long findUserId(String uid) {
+        Long userId = userRepository.findIdByUid(uid);
+        if (userId == null) {
+            throw new RuntimeException("해당 유저가 존재하지 않습니다.");
+        }
+        return userId;
+    }
+
+    private int resolvePageSize(Integer size) {
+        return (size == null || size <= 0) ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    // 한 건 더 조회한 결과로 다음 페이지 존재 여부와 커서를 계산
+    private MessagePageDTO toPage(List<MessageEntity> rows, int pageSize) {
+        return toPage(rows, pageSize, MessagePageDTO::of);
+    }
+
+    private <T> T toPage(List<MessageEntity> rows, int pageSize, PageAssembler<T> assembler) {
+        boolean hasNext = rows.size() > pageSize;
+        List<MessageEntity> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            MessageEntity last = page.get(page.size() - 1);
+            nextCursor = new MessageCursor(last.getCreateTime(), last.getId()).encode();
+        }
+        return assembler.assemble(page, nextCursor, hasNext);
+    }
+
+    // 페이지 응답 형태 (전체 또는 간략)
+    @FunctionalInterface
+    private interface PageAssembler<T> {
+        T assemble(List<MessageEntity> page, String nextCursor, boolean hasNext);
+    }
+
+    // 페이지 커서 ("{createTime}_{id}"를 URL-safe Base64로 인코딩, 클라이언트는 값을 해석하지 않고 그대로 전달)
+    private record MessageCursor(LocalDateTime createTime, Long id) {
+
+        static MessageCursor parse(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
+            try {
+                String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = decoded.lastIndexOf('_');
+                if (separator < 0) {
+                    throw new IllegalArgumentException("잘못된 커서입니다.");
+                }
+                return new MessageCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                        Long.parseLong(decoded.substring(separator + 1)));
+            } catch (DateTimeParseException | IllegalArgumentException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다.", e);
+            }
+        }
+
+        String encode() {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((createTime + "_" + id).getBytes(StandardCharsets.UTF_8));
+        }
     }
 }
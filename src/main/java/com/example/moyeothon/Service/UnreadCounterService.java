@@ -0,0 +1,147 @@
+package com.example.moyeothon.Service;
+
+import com.example.moyeothon.Entity.UnreadCounterEntity;
+import com.example.moyeothon.Enum.MessageStatus;
+import com.example.moyeothon.Repository.MessageRepository;
+import com.example.moyeothon.Repository.MessageRepository.ReceiverUnreadCount;
+import com.example.moyeothon.Repository.UnreadCounterRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// 유저별 안 읽은 쪽지 수 카운터 관리
+// 증감은 쪽지 변경과 같은 트랜잭션에서 원자적 UPDATE로 반영하고, 누락된 값은 주기적인 대조 작업으로 보정
+@Service
+public class UnreadCounterService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UnreadCounterService.class);
+
+    private final UnreadCounterRepository unreadCounterRepository;
+    private final MessageRepository messageRepository;
+    private final TransactionTemplate newTransaction;
+    private final int reconcileChunkSize;
+    private final Counter repairedCounter;
+
+    public UnreadCounterService(UnreadCounterRepository unreadCounterRepository,
+                                MessageRepository messageRepository,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${message.unread-counter.reconcile-chunk-size:500}") int reconcileChunkSize) {
+        this.unreadCounterRepository = unreadCounterRepository;
+        this.messageRepository = messageRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.reconcileChunkSize = reconcileChunkSize;
+        this.repairedCounter = Counter.builder("message.unread.reconciled").register(meterRegistry);
+    }
+
+    // 안 읽은 쪽지 수 조회 (카운터가 없으면 쪽지 테이블에서 계산해 생성)
+    public long getUnreadCount(Long userId) {
+        Long count = unreadCounterRepository.findUnreadCountByUserId(userId);
+        if (count != null) {
+            return count;
+        }
+        return seed(userId);
+    }
+
+    // 호출하는 쪽의 트랜잭션 안에서 조회 (방금 반영한 쪽지 상태 변경까지 포함)
+    // 카운터가 없으면 별도 트랜잭션으로 생성하지 않고 쪽지 테이블에서 계산한 값만 반환 (카운터는 다음 getUnreadCount 호출 시 생성)
+    public long getUnreadCountInCurrentTransaction(Long userId) {
+        Long count = unreadCounterRepository.findUnreadCountByUserId(userId);
+        if (count != null) {
+            return count;
+        }
+        return messageRepository.countByReceiverIdAndStatus(userId, MessageStatus.안읽음);
+    }
+
+    // 호출하는 쪽의 트랜잭션 안에서 증감
+    public void increment(Long userId) {
+        unreadCounterRepository.adjust(userId, 1);
+    }
+
+    public void decrement(Long userId, long amount) {
+        if (amount > 0) {
+            unreadCounterRepository.adjust(userId, -amount);
+        }
+    }
+
+    // 삭제될 쪽지들의 수신자별 안 읽은 수만큼 감소 (삭제 전에 호출)
+    public void decrementAll(List<ReceiverUnreadCount> unreadCounts) {
+        for (ReceiverUnreadCount unread : unreadCounts) {
+            decrement(unread.getReceiverId(), unread.getUnreadCount());
+        }
+    }
+
+    public void remove(Long userId) {
+        unreadCounterRepository.deleteAllByIdInBatch(List.of(userId));
+    }
+
+    // 별도 트랜잭션으로 생성 (동시에 생성되어 충돌하면 먼저 생성된 카운터를 두고 계산값만 반환)
+    private long seed(Long userId) {
+        try {
+            return newTransaction.execute(status -> {
+                long actual = messageRepository.countByReceiverIdAndStatus(userId, MessageStatus.안읽음);
+                unreadCounterRepository.saveAndFlush(new UnreadCounterEntity(userId, actual));
+                return actual;
+            });
+        } catch (DataIntegrityViolationException e) {
+            return messageRepository.countByReceiverIdAndStatus(userId, MessageStatus.안읽음);
+        }
+    }
+
+    // 카운터를 청크 단위로 실제 값과 대조해 보정
+    // 대조 이후 값이 바뀐 카운터는 조건부 UPDATE로 건너뛰고 다음 주기에 다시 확인
+    @Scheduled(fixedDelayString = "${message.unread-counter.reconcile-interval-ms:600000}",
+            initialDelayString = "${message.unread-counter.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        long afterUserId = 0L;
+        int repaired = 0;
+        while (true) {
+            long cursor = afterUserId;
+            ReconcileResult result = newTransaction.execute(status -> reconcileChunk(cursor));
+            if (result == null || result.lastUserId() == null) {
+                break;
+            }
+            repaired += result.repaired();
+            afterUserId = result.lastUserId();
+        }
+        if (repaired > 0) {
+            repairedCounter.increment(repaired);
+            logger.warn("안 읽은 쪽지 카운터 {}건을 보정했습니다.", repaired);
+        }
+    }
+
+    private ReconcileResult reconcileChunk(long afterUserId) {
+        List<UnreadCounterEntity> counters = unreadCounterRepository.findChunkAfter(afterUserId, PageRequest.of(0, reconcileChunkSize));
+        if (counters.isEmpty()) {
+            return new ReconcileResult(null, 0);
+        }
+        List<Long> userIds = counters.stream().map(UnreadCounterEntity::getUserId).collect(Collectors.toList());
+        Map<Long, Long> actualCounts = messageRepository.countByReceiverIdInAndStatus(userIds, MessageStatus.안읽음).stream()
+                .collect(Collectors.toMap(ReceiverUnreadCount::getReceiverId, ReceiverUnreadCount::getUnreadCount));
+        int repaired = 0;
+        for (UnreadCounterEntity counter : counters) {
+            long actual = actualCounts.getOrDefault(counter.getUserId(), 0L);
+            if (counter.getUnreadCount() != actual) {
+                repaired += unreadCounterRepository.reconcile(counter.getUserId(), counter.getUnreadCount(), actual);
+            }
+        }
+        return new ReconcileResult(userIds.get(userIds.size() - 1), repaired);
+    }
+
+    private record ReconcileResult(Long lastUserId, int repaired) {
+    }
+}
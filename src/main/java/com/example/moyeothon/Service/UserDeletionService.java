@@ -0,0 +1,110 @@
+package com.example.moyeothon.Service;
+
+import com.example.moyeothon.Enum.MessageStatus;
+import com.example.moyeothon.Repository.BucketRepository;
+import com.example.moyeothon.Repository.BucketSearchTokenRepository;
+import com.example.moyeothon.Repository.MessageRepository;
+import com.example.moyeothon.Repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// 회원 탈퇴 시 쪽지 -> 버킷리스트(각 검색 색인 포함) -> 유저 순서로 집합 단위 일괄 삭제
+// 엔티티를 하나씩 불러와 지우지 않고, 청크마다 별도 트랜잭션으로 커밋하여 잠금 시간을 짧게 유지
+@Service
+public class UserDeletionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserDeletionService.class);
+
+    private final UserRepository userRepository;
+    private final BucketRepository bucketRepository;
+    private final MessageRepository messageRepository;
+    private final BucketSearchTokenRepository bucketSearchTokenRepository;
+    private final MessageSearchService messageSearchService;
+    private final UnreadCounterService unreadCounterService;
+    private final VersionStampService versionStampService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public UserDeletionService(UserRepository userRepository,
+                               BucketRepository bucketRepository,
+                               MessageRepository messageRepository,
+                               BucketSearchTokenRepository bucketSearchTokenRepository,
+                               MessageSearchService messageSearchService,
+                               UnreadCounterService unreadCounterService,
+                               VersionStampService versionStampService,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${account-deletion.chunk-size:1000}") int chunkSize) {
+        this.userRepository = userRepository;
+        this.bucketRepository = bucketRepository;
+        this.messageRepository = messageRepository;
+        this.bucketSearchTokenRepository = bucketSearchTokenRepository;
+        this.messageSearchService = messageSearchService;
+        this.unreadCounterService = unreadCounterService;
+        this.versionStampService = versionStampService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    public void deleteAccount(Long userId) {
+        // OR 조건 하나로 묶으면 청크마다 전체 스캔이 되므로 발신자 / 수신자 / 버킷리스트 인덱스별로 따로 삭제
+        int messages = deleteInChunks(() -> messageRepository.findIdsBySenderId(userId, PageRequest.of(0, chunkSize)), this::deleteMessages);
+        messages += deleteInChunks(() -> messageRepository.findIdsByReceiverId(userId, PageRequest.of(0, chunkSize)), this::deleteMessages);
+        int buckets = 0;
+        while (true) {
+            List<Long> bucketIds = bucketRepository.findIdsByUserId(userId, PageRequest.of(0, chunkSize));
+            if (bucketIds.isEmpty()) {
+                break;
+            }
+            // 다른 유저가 해당 유저의 버킷리스트에 보낸 쪽지를 먼저 삭제한 뒤 버킷리스트 삭제
+            messages += deleteInChunks(() -> messageRepository.findIdsByBucketListIdIn(bucketIds, PageRequest.of(0, chunkSize)), this::deleteMessages);
+            transactionTemplate.executeWithoutResult(status -> {
+                bucketSearchTokenRepository.deleteByBucketIdIn(bucketIds);
+                bucketSearchTokenRepository.deleteIndexedByBucketIdIn(bucketIds);
+                bucketRepository.deleteAllByIdInBatch(bucketIds);
+            });
+            buckets += bucketIds.size();
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            unreadCounterService.remove(userId);
+            userRepository.deleteAllByIdInBatch(List.of(userId));
+            // 공개 버킷리스트 목록에서도 데이터가 사라지므로 공개 목록 ETag 갱신 (쪽지 목록은 쪽지 삭제 시 갱신)
+            versionStampService.bump(VersionStampService.PUBLIC_BUCKETS);
+        });
+        logger.info("회원 데이터 삭제 완료 - userId : {}, 쪽지 : {}건, 버킷리스트 : {}건", userId, messages, buckets);
+    }
+
+    // 다른 유저가 받은 안 읽은 쪽지도 함께 삭제되므로 수신자별 카운터 감소, 발신자/수신자의 쪽지 목록 ETag 갱신
+    private void deleteMessages(List<Long> ids) {
+        unreadCounterService.decrementAll(messageRepository.countByIdInAndStatusGroupByReceiver(ids, MessageStatus.안읽음));
+        versionStampService.bump(VersionStampService.messages(messageRepository.findParticipantUidsByIdIn(ids)));
+        messageSearchService.remove(ids);
+        messageRepository.deleteAllByIdInBatch(ids);
+    }
+
+    // 남은 id가 없을 때까지 청크 단위로 조회 후 삭제, 청크마다 커밋
+    private int deleteInChunks(Supplier<List<Long>> nextChunk, Consumer<List<Long>> delete) {
+        int total = 0;
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> {
+                List<Long> ids = nextChunk.get();
+                if (!ids.isEmpty()) {
+                    delete.accept(ids);
+                }
+                return ids.size();
+            });
+            if (deleted == null || deleted == 0) {
+                return total;
+            }
+            total += deleted;
+        }
+    }
+}
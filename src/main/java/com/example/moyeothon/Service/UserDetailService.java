@@ -1,22 +1,58 @@
 package com.example.moyeothon.Service;
 
-import com.example.moyeothon.Entity.UserEntity;
+import com.example.moyeothon.Config.JWT.UserPrincipal;
 import com.example.moyeothon.Repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
 
 @Service
-@RequiredArgsConstructor
 public class UserDetailService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    // uid별 인증 정보 캐시 (최대 크기, TTL 제한)
+    private final Cache<String, UserPrincipal> principalCache;
+
+    public UserDetailService(UserRepository userRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${cache.user-details.maximum-size:10000}") long maximumSize,
+                             @Value("${cache.user-details.expire-after-write:5m}") Duration expireAfterWrite) {
+        this.userRepository = userRepository;
+        this.principalCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, principalCache, "userDetails");
+    }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        UserEntity userEntity = userRepository.findByUid(username);
-        return userEntity;
+        return principalCache.get(username, userRepository::findPrincipalByUid);
+    }
+
+    // 회원 정보 수정, 탈퇴 시 캐시된 인증 정보를 제거
+    // 트랜잭션 안에서 호출되면 커밋 전에 다른 요청이 이전 정보를 다시 캐시할 수 있으므로 커밋 후에 제거
+    public void evict(String uid) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            principalCache.invalidate(uid);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                principalCache.invalidate(uid);
+            }
+        });
     }
 }
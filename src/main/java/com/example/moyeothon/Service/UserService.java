@@ -1,6 +1,8 @@
 package com.example.moyeothon.Service;
 
 import com.example.moyeothon.Config.JWT.JwtTokenProvider;
+import com.example.moyeothon.Config.OAuth2.GoogleIdTokenVerifier;
+import com.example.moyeothon.Config.OAuth2.OAuthProviderGuard;
 import com.example.moyeothon.Config.OAuthProperties.GoogleOAuthProperties;
 import com.example.moyeothon.Config.OAuthProperties.KakaoOAuthProperties;
 import com.example.moyeothon.DTO.JWTDTO;
@@ -15,15 +17,22 @@ import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.*;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.JwtException;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 import java.util.Map;
 import java.util.Optional;
@@ -34,12 +43,21 @@ public class UserService {
 
     private static final Logger logger = LoggerFactory.getLogger(UserService.class);
     private final ObjectMapper objectMapper = new ObjectMapper();
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashService passwordHashService;
     private final UserRepository userRepository;
     private final JwtTokenProvider jwtTokenProvider;
-    private final RestTemplate restTemplate;
+    @Qualifier("kakaoRestTemplate")
+    private final RestTemplate kakaoRestTemplate;
+    @Qualifier("googleRestTemplate")
+    private final RestTemplate googleRestTemplate;
+    private final ClientRegistrationRepository clientRegistrationRepository;
+    private final OAuthProviderGuard oAuthProviderGuard;
+    private final GoogleIdTokenVerifier googleIdTokenVerifier;
     private final KakaoOAuthProperties kakaoOAuthProperties;
     private final GoogleOAuthProperties googleOAuthProperties;
+    private final UserDetailService userDetailService;
+    private final UserDeletionService userDeletionService;
+    private final VersionStampService versionStampService;
     private final BucketRepository bucketRepository;
     private final MessageRepository messageRepository;
 
@@ -61,7 +79,7 @@ public class UserService {
             throw new IllegalArgumentException("중복된 닉네임이 존재합니다");
         }
         UserEntity userEntity = userDTO.dtoToEntity();
-        userEntity.setPassword(passwordEncoder.encode(userDTO.getPassword()));
+        userEntity.setPassword(passwordHashService.encode(userDTO.getPassword()));
         userEntity.setProvider("normal");
         UserEntity savedUser = userRepository.save(userEntity);
         logger.info("회원가입 완료! " + userEntity);
@@ -71,9 +89,22 @@ public class UserService {
     // 일반 로그인
     public JWTDTO login(String uid, String password) {
         UserEntity userEntity = userRepository.findByUid(uid);
-        if (!passwordEncoder.matches(password, userEntity.getPassword())) {
+        if (userEntity == null) {
+            throw new IllegalArgumentException("존재하지 않는 아이디입니다");
+        }
+        // 소셜 로그인 계정은 비밀번호가 없으므로 해싱 없이 바로 거절
+        if (!userEntity.hasPasswordLogin()) {
+            throw new IllegalArgumentException("소셜 로그인으로 가입된 계정입니다");
+        }
+        if (!passwordHashService.matches(password, userEntity.getPassword())) {
             throw new IllegalArgumentException("비밀번호가 일치하지 않습니다");
         }
+        // 비용 계수가 변경되었다면 로그인 시점에 현재 설정으로 재해싱
+        if (passwordHashService.upgradeEncoding(userEntity.getPassword())) {
+            userEntity.setPassword(passwordHashService.encode(password));
+            userRepository.save(userEntity);
+            logger.info("유저의 uid가 " + uid + "인 비밀번호 해시를 갱신했습니다");
+        }
 
         String token = jwtTokenProvider.generateToken(uid);
         logger.info("로그인 성공! 새로운 토큰이 발급되었습니다");
@@ -89,7 +120,8 @@ public class UserService {
         return UserDTO.entityToDto(userEntity);
     }
 
-    // 회원 정보 수정
+    // 회원 정보 수정 (캐시된 인증 정보는 커밋 후 제거)
+    @Transactional
     public UserDTO updateUser(String uid, UserDTO userDTO, UserDetails userDetails) {
         if (!userDetails.getUsername().equals(uid)) {
             throw new RuntimeException("권한이 없습니다");
@@ -98,19 +130,22 @@ public class UserService {
         UserEntity userEntity = userRepository.findByUid(uid);
 
         if (userDTO.getPassword() != null) {
-            userEntity.setPassword(passwordEncoder.encode(userDTO.getPassword()));
+            userEntity.setPassword(passwordHashService.encode(userDTO.getPassword()));
         }
         if (userDTO.getNickname() != null) {
             userEntity.setNickname(userDTO.getNickname());
         }
 
         UserEntity updatedUser = userRepository.save(userEntity);
+        userDetailService.evict(uid);
+        if (userDTO.getNickname() != null) {
+            bumpProfileStamps(updatedUser);
+        }
         logger.info("사용자 정보 업데이트 완료! " + updatedUser);
         return UserDTO.entityToDto(updatedUser);
     }
 
-    // 회원 탈퇴
-    @Transactional
+    // 회원 탈퇴 (청크 단위로 커밋되도록 트랜잭션 없이 삭제 파이프라인 호출)
     public UserDTO deleteUser(String uid, UserDetails userDetails) {
         if (!userDetails.getUsername().equals(uid)) {
             throw new RuntimeException("권한이 없습니다");
@@ -119,15 +154,16 @@ public class UserService {
         if (userEntity == null) {
             throw new RuntimeException("해당 유저가 존재하지 않습니다.");
         }
-        bucketRepository.deleteByUserUid(uid);
-        messageRepository.deleteBySenderUid(uid);
-        messageRepository.deleteByReceiverUid(uid);
-        userRepository.delete(userEntity);
+        UserDTO deletedUser = UserDTO.entityToDto(userEntity);
+        userDeletionService.deleteAccount(userEntity.getId());
+        jwtTokenProvider.invalidateToken(uid);
+        userDetailService.evict(uid);
         logger.info("유저의 uid가 " + uid + "인 회원탈퇴 완료!");
-        return UserDTO.entityToDto(userEntity);
+        return deletedUser;
     }
 
-    // 닉네임 수정, 소셜 로그인 사용자라면 초기 닉네임 설정
+    // 닉네임 수정, 소셜 로그인 사용자라면 초기 닉네임 설정 (캐시된 인증 정보는 커밋 후 제거)
+    @Transactional
     public UserDTO updateNickname(String uid, String nickname, UserDetails userDetails) {
         if(!userDetails.getUsername().equals(uid)) {
             throw new RuntimeException("권한이 없습니다");
@@ -135,10 +171,35 @@ public class UserService {
         UserEntity userEntity = userRepository.findByUid(uid);
         userEntity.setNickname(nickname);
         UserEntity updatedUser = userRepository.save(userEntity);
+        userDetailService.evict(uid);
+        bumpProfileStamps(updatedUser);
         logger.info("사용자 닉네임 업데이트 완료! " + updatedUser);
         return UserDTO.entityToDto(updatedUser);
     }
 
+    // 목록 응답에 포함된 닉네임이 바뀌므로 해당 유저가 보이는 목록의 ETag만 갱신
+    // (본인 버킷리스트 목록, 주고받은 쪽지가 있는 유저들의 쪽지 목록, 공개 버킷리스트가 있다면 공개 목록)
+    private void bumpProfileStamps(UserEntity userEntity) {
+        List<String> keys = new ArrayList<>(VersionStampService.messages(messageRepository.findCorrespondentUids(userEntity.getId())));
+        keys.add(VersionStampService.userBuckets(userEntity.getUid()));
+        keys.add(VersionStampService.messages(userEntity.getUid()));
+        if (bucketRepository.existsPublicByUserId(userEntity.getId())) {
+            keys.add(VersionStampService.PUBLIC_BUCKETS);
+        }
+        versionStampService.bump(keys);
+    }
+
+    // 소셜 로그인 신규 유저 생성 (로그인에 쓰이지 않는 비밀번호는 해싱하지 않고 비워둠)
+    static UserEntity newSocialUser(String uid, String name, String nickname, String email, String provider) {
+        return UserEntity.builder()
+                .uid(uid)
+                .name(name)
+                .nickname(nickname)
+                .email(email)
+                .provider(provider)
+                .build();
+    }
+
     // 닉네임 랜덤 생성 메서드
     private String randomNickname() {
         String[] A = {"멋진", "용감한", "빠른", "슬기로운", "조용한", "기분좋은", "귀여운", "신비로운", "재밌는", "상큼한", "활기찬", "따뜻한", "멋진", "반짝이는"};
@@ -174,16 +235,21 @@ public class UserService {
                 googleOAuthProperties.getRedirectUri());
 
         String authorizationUrl = String.format(
-                "https://accounts.google.com/o/oauth2/v2/auth?client_id=%s&redirect_uri=%s&response_type=code&scope=email%%20profile",
+                "https://accounts.google.com/o/oauth2/v2/auth?client_id=%s&redirect_uri=%s&response_type=code&scope=openid%%20email%%20profile",
                 googleOAuthProperties.getClientId(),
                 googleOAuthProperties.getRedirectUri()
         );
         logger.info("구글 로그인 URL : {}", authorizationUrl);
     }
 
+    // application.yml의 OAuth2 provider 설정에서 토큰, 사용자 정보 엔드포인트 조회
+    private ClientRegistration.ProviderDetails providerDetails(String registrationId) {
+        return clientRegistrationRepository.findByRegistrationId(registrationId).getProviderDetails();
+    }
+
     // 카카오 인가 코드로 액세스 토큰을 요청하는 메서드
     public String getAccessToken(String code) {
-        String url = "https://kauth.kakao.com/oauth/token";
+        String url = providerDetails("kakao").getTokenUri();
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
         MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
@@ -199,7 +265,7 @@ public class UserService {
 
         HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(params, headers);
         try {
-            ResponseEntity<Map> response = restTemplate.postForEntity(url, request, Map.class);
+            ResponseEntity<Map> response = oAuthProviderGuard.call("kakao", () -> kakaoRestTemplate.postForEntity(url, request, Map.class));
             Map<String, Object> responseBody = response.getBody();
             if (responseBody != null) {
                 String accessToken = (String) responseBody.get("access_token");
@@ -218,12 +284,12 @@ public class UserService {
 
     // 액세스 토큰으로 사용자 정보를 요청하는 메서드
     public Map<String, Object> getUserInfo(String accessToken) {
-        String url = "https://kapi.kakao.com/v2/user/me";
+        String url = providerDetails("kakao").getUserInfoEndpoint().getUri();
         HttpHeaders headers = new HttpHeaders();
         headers.set("Authorization", "Bearer " + accessToken);
         HttpEntity<String> entity = new HttpEntity<>(headers);
         try {
-            ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.GET, entity, Map.class);
+            ResponseEntity<Map> response = oAuthProviderGuard.call("kakao", () -> kakaoRestTemplate.exchange(url, HttpMethod.GET, entity, Map.class));
             Map<String, Object> responseBody = response.getBody();
             if (responseBody != null) {
                 String userInfoJson = objectMapper.writeValueAsString(responseBody);
@@ -238,6 +304,8 @@ public class UserService {
             logger.error("사용자 정보를 가져오는 중 오류가 발생했습니다. (위치: getUserInfo): {}", e.getMessage());
             logger.error("응답 본문 (위치: getUserInfo): {}", e.getResponseBodyAsString());
             throw e;
+        } catch (ResponseStatusException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("JSON 변환 중 오류가 발생했습니다: {}", e.getMessage());
             throw new RuntimeException("JSON 변환 중 오류가 발생했습니다.", e);
@@ -272,14 +340,7 @@ public class UserService {
             if (userEntity == null) {
                 // 새 유저일 때만 랜덤 닉네임 생성
                 String nickname = randomNickname();
-                userEntity = UserEntity.builder()
-                        .uid(uid)
-                        .nickname(nickname)
-                        .name(name)
-                        .email(email)
-                        .password(passwordEncoder.encode("oauth2user"))
-                        .provider("kakao")
-                        .build();
+                userEntity = newSocialUser(uid, name, nickname, email, "kakao");
                 userRepository.save(userEntity);
                 isNewUser = true;
             } else {
@@ -296,15 +357,17 @@ public class UserService {
             logger.error("카카오 API 호출 중 오류가 발생했습니다: {}", e.getMessage());
             logger.error("응답 본문: {}", e.getResponseBodyAsString());
             throw new RuntimeException("카카오 API 호출 중 오류가 발생했습니다.", e);
+        } catch (ResponseStatusException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("카카오 로그인 중 오류가 발생했습니다 (위치 : loginWithOAuth2) : {}", e.getMessage());
             throw new RuntimeException("카카오 로그인 중 오류가 발생했습니다. (위치 : loginWithOAuth2)", e);
         }
     }
 
-    // 구글 인가 코드로 액세스 토큰을 요청하는 메서드
-    public String getGoogleAccessToken(String code) {
-        String url = "https://oauth2.googleapis.com/token";
+    // 구글 인가 코드로 토큰 응답(액세스 토큰, ID 토큰)을 요청하는 메서드
+    public Map<String, Object> getGoogleTokenResponse(String code) {
+        String url = providerDetails("google").getTokenUri();
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
         MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
@@ -320,26 +383,25 @@ public class UserService {
 
         HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(params, headers);
         try {
-            ResponseEntity<Map> response = restTemplate.postForEntity(url, request, Map.class);
+            ResponseEntity<Map> response = oAuthProviderGuard.call("google", () -> googleRestTemplate.postForEntity(url, request, Map.class));
             Map<String, Object> responseBody = response.getBody();
             if (responseBody != null) {
-                String accessToken = (String) responseBody.get("access_token");
-                logger.info("액세스 토큰을 성공적으로 가져왔습니다: {}", accessToken);
-                return accessToken;
+                logger.info("액세스 토큰을 성공적으로 가져왔습니다: {}", responseBody.get("access_token"));
+                return responseBody;
             } else {
                 logger.error("액세스 토큰을 가져오는데 실패했습니다. 응답 본문이 비어있습니다.");
                 return null;
             }
         } catch (HttpClientErrorException e) {
-            logger.error("액세스 토큰을 가져오는 중 오류가 발생하였습니다. (위치: getGoogleAccessToken): {}", e.getMessage());
-            logger.error("응답 본문 (위치: getGoogleAccessToken): {}", e.getResponseBodyAsString());
+            logger.error("액세스 토큰을 가져오는 중 오류가 발생하였습니다. (위치: getGoogleTokenResponse): {}", e.getMessage());
+            logger.error("응답 본문 (위치: getGoogleTokenResponse): {}", e.getResponseBodyAsString());
             throw e;
         }
     }
 
     // 액세스 토큰으로 사용자 정보를 요청하는 메서드
     public Map<String, Object> getGoogleUserInfo(String accessToken) {
-        String url = "https://www.googleapis.com/oauth2/v3/userinfo";
+        String url = providerDetails("google").getUserInfoEndpoint().getUri();
         HttpHeaders headers = new HttpHeaders();
         headers.set("Authorization", "Bearer " + accessToken);
         HttpEntity<String> entity = new HttpEntity<>(headers);
@@ -348,7 +410,7 @@ public class UserService {
         logger.info("사용자 정보 요청 헤더: {}", headers);
 
         try {
-            ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.GET, entity, Map.class);
+            ResponseEntity<Map> response = oAuthProviderGuard.call("google", () -> googleRestTemplate.exchange(url, HttpMethod.GET, entity, Map.class));
             Map<String, Object> responseBody = response.getBody();
             if (responseBody != null) {
                 logger.info("사용자 정보를 성공적으로 가져왔습니다 : {}", responseBody);
@@ -364,11 +426,33 @@ public class UserService {
         }
     }
 
+    // ID 토큰을 로컬에서 검증해 사용자 정보를 얻고, ID 토큰이 없거나 키 조회에 실패한 경우에만 userinfo API 호출
+    private Map<String, Object> resolveGoogleUserInfo(Map<String, Object> tokenResponse) {
+        String idToken = (String) tokenResponse.get("id_token");
+        if (idToken != null) {
+            try {
+                Map<String, Object> claims = googleIdTokenVerifier.verify(idToken);
+                if (claims.get("name") != null && claims.get("email") != null) {
+                    return claims;
+                }
+            } catch (BadJwtException e) {
+                logger.error("유효하지 않은 구글 ID 토큰입니다: {}", e.getMessage());
+                throw e;
+            } catch (JwtException e) {
+                logger.warn("구글 ID 토큰 검증 키를 가져오지 못해 사용자 정보 API로 대체합니다: {}", e.getMessage());
+            }
+        }
+        return getGoogleUserInfo((String) tokenResponse.get("access_token"));
+    }
+
     // 최종적으로 구글 로그인을 처리하는 메서드
     public JWTDTO loginWithGoogleOAuth2(String code) {
         try {
-            String accessToken = getGoogleAccessToken(code);
-            Map<String, Object> userInfo = getGoogleUserInfo(accessToken);
+            Map<String, Object> tokenResponse = getGoogleTokenResponse(code);
+            if (tokenResponse == null) {
+                throw new RuntimeException("구글 토큰 응답을 가져올 수 없습니다.");
+            }
+            Map<String, Object> userInfo = resolveGoogleUserInfo(tokenResponse);
 
             String uid = (String) userInfo.get("sub");
             String name = (String) userInfo.get("name");
@@ -387,14 +471,7 @@ public class UserService {
                 }
                 userEntity.setEmail(email);
             } else {
-                userEntity = UserEntity.builder()
-                        .uid(uid)
-                        .name(name)
-                        .nickname(randomNickname())
-                        .email(email)
-                        .password(passwordEncoder.encode("OAuth2_User_Password"))
-                        .provider("google")
-                        .build();
+                userEntity = newSocialUser(uid, name, randomNickname(), email, "google");
                 userRepository.save(userEntity);
             }
 
@@ -405,6 +482,8 @@ public class UserService {
             logger.error("구글 API 호출 중 오류가 발생했습니다: {}", e.getMessage());
             logger.error("응답 본문: {}", e.getResponseBodyAsString());
             throw new RuntimeException("구글 API 호출 중 오류가 발생했습니다.", e);
+        } catch (ResponseStatusException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("구글 로그인 중 오류가 발생했습니다 (위치 : loginWithGoogleOAuth2) : {}", e.getMessage());
             throw new RuntimeException("구글 로그인 중 오류가 발생했습니다. (위치 : loginWithGoogleOAuth2)", e);
@@ -0,0 +1,89 @@
+package com.example.moyeothon.Service;
+
+import com.example.moyeothon.Entity.VersionStampEntity;
+import com.example.moyeothon.Repository.VersionStampRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// 목록 조회 ETag용 버전 관리
+// 쓰기 작업은 데이터 변경과 같은 트랜잭션에서 버전을 올리고, 조회는 버전만 읽어 If-None-Match와 비교하므로
+// 변경이 없으면 엔티티 조회와 DTO 변환 없이 304로 응답
+// 키는 목록 소유자 단위로 두고, 쓰기 작업은 해당 변경이 실제로 보이는 목록의 키만 올려 모든 쓰기가 한 행에 몰리지 않도록 함
+// (전체 공개 목록 키는 공개 버킷리스트에 영향이 있는 변경에서만 올림)
+@Service
+public class VersionStampService {
+
+    public static final String PUBLIC_BUCKETS = "public-buckets";
+
+    private final VersionStampRepository versionStampRepository;
+    private final TransactionTemplate newTransaction;
+
+    public VersionStampService(VersionStampRepository versionStampRepository, PlatformTransactionManager transactionManager) {
+        this.versionStampRepository = versionStampRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public static String userBuckets(String uid) {
+        return "buckets:" + uid;
+    }
+
+    public static String messages(String uid) {
+        return "messages:" + uid;
+    }
+
+    public static List<String> messages(Collection<String> uids) {
+        return uids.stream().map(VersionStampService::messages).collect(Collectors.toList());
+    }
+
+    // 주어진 키들의 현재 버전으로 강한 ETag 생성 (처음 조회되는 키는 버전 1로 생성)
+    public String eTag(String... keys) {
+        List<String> keyList = List.of(keys);
+        Map<String, Long> versions = versionStampRepository.findAllByKeys(keyList).stream()
+                .collect(Collectors.toMap(VersionStampEntity::getStampKey, VersionStampEntity::getVersion));
+        StringBuilder eTag = new StringBuilder("\"");
+        for (int i = 0; i < keyList.size(); i++) {
+            String key = keyList.get(i);
+            Long version = versions.get(key);
+            if (version == null) {
+                version = seed(key);
+            }
+            if (i > 0) {
+                eTag.append('.');
+            }
+            eTag.append(version);
+        }
+        return eTag.append('"').toString();
+    }
+
+    // 호출하는 쪽의 트랜잭션 안에서 버전 증가 (아직 조회된 적 없는 키는 다음 조회 시 생성되므로 무시)
+    @Transactional
+    public void bump(String... keys) {
+        bump(List.of(keys));
+    }
+
+    @Transactional
+    public void bump(Collection<String> keys) {
+        if (!keys.isEmpty()) {
+            versionStampRepository.bump(keys);
+        }
+    }
+
+    private long seed(String key) {
+        try {
+            newTransaction.executeWithoutResult(status -> versionStampRepository.insertInitial(key));
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 생성된 경우 : 실제보다 낮은 버전을 반환하면 다음 조회에서 200으로 응답하므로 안전
+        }
+        return 1L;
+    }
+}
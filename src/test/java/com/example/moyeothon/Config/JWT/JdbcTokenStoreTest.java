@@ -0,0 +1,82 @@
+package com.example.moyeothon.Config.JWT;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 블루/그린 두 노드가 같은 토큰 상태를 기록하는 상황 (flush가 자체 트랜잭션을 쓰므로 테스트 트랜잭션은 사용하지 않음)
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JdbcTokenStoreTest {
+
+    private static final long EXPIRES_AT = System.currentTimeMillis() + Duration.ofMinutes(30).toMillis();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private JdbcTokenStore tokenStore;
+
+    @BeforeEach
+    void setUp() {
+        tokenStore = new JdbcTokenStore(jdbcTemplate, transactionManager, Duration.ofSeconds(2), 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM active_tokens");
+        jdbcTemplate.update("DELETE FROM revoked_tokens");
+    }
+
+    @Test
+    void duplicateRevokeFromOtherNodeDoesNotBlockLaterFlushes() {
+        // 다른 노드가 이미 기록한 활성 토큰과 그 토큰의 무효화
+        jdbcTemplate.update("INSERT INTO active_tokens (uid, jti, expires_at) VALUES (?, ?, ?)", "user", "old-jti", EXPIRES_AT);
+        jdbcTemplate.update("INSERT INTO revoked_tokens (jti, expires_at) VALUES (?, ?)", "old-jti", EXPIRES_AT);
+
+        tokenStore.replaceActiveToken("user", "new-jti", EXPIRES_AT);
+        tokenStore.flush();
+
+        assertThat(activeJti("user")).isEqualTo("new-jti");
+        assertThat(revokedCount("old-jti")).isEqualTo(1);
+
+        // 충돌한 행이 대기열에 남지 않아 다음 쓰기도 반영됨
+        tokenStore.replaceActiveToken("user", "next-jti", EXPIRES_AT);
+        tokenStore.flush();
+
+        assertThat(activeJti("user")).isEqualTo("next-jti");
+        assertThat(revokedCount("new-jti")).isEqualTo(1);
+        assertThat(tokenStore.isRevoked("old-jti")).isTrue();
+    }
+
+    @Test
+    void activeTokenWrittenByOtherNodeIsOverwritten() {
+        tokenStore.replaceActiveToken("user", "mine", EXPIRES_AT);
+        // 이 노드가 반영하기 전에 다른 노드가 같은 uid를 기록
+        jdbcTemplate.update("INSERT INTO active_tokens (uid, jti, expires_at) VALUES (?, ?, ?)", "user", "theirs", EXPIRES_AT);
+
+        tokenStore.flush();
+
+        assertThat(activeJti("user")).isEqualTo("mine");
+    }
+
+    private String activeJti(String uid) {
+        return jdbcTemplate.queryForObject("SELECT jti FROM active_tokens WHERE uid = ?", String.class, uid);
+    }
+
+    private Integer revokedCount(String jti) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM revoked_tokens WHERE jti = ?", Integer.class, jti);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.moyeothon.Config.JWT;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenRevocationStoreTest {
+
+    private static final long TOKEN_LIFETIME_MILLIS = TimeUnit.MINUTES.toMillis(30);
+
+    // 시스템 시계와 무관한 값에서 시작해 Ticker만으로 만료가 결정되는지 확인
+    private final AtomicLong nanos = new AtomicLong(TimeUnit.DAYS.toNanos(365));
+    private final Ticker ticker = nanos::get;
+
+    @Test
+    void revokedTokenIsRejectedUntilItsOwnExpiry() {
+        TokenRevocationStore store = new TokenRevocationStore(ticker);
+        store.revoke("jti", store.currentTimeMillis() + TOKEN_LIFETIME_MILLIS);
+
+        assertThat(store.isRevoked("jti")).isTrue();
+
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(TOKEN_LIFETIME_MILLIS + 1));
+        assertThat(store.isRevoked("jti")).isFalse();
+        assertThat(store.size()).isZero();
+    }
+
+    // 사용자 100명이 1분마다 재로그인하는 상황을 하루 동안 재현, 보관 개수가 활성 토큰 수에서 더 늘어나지 않아야 함
+    @Test
+    void sizeStaysBoundedUnderContinuousLogins() {
+        TokenRevocationStore store = new TokenRevocationStore(ticker);
+        int users = 100;
+        long minutesPerDay = TimeUnit.DAYS.toMinutes(1);
+        long bound = users * (TimeUnit.MILLISECONDS.toMinutes(TOKEN_LIFETIME_MILLIS) + 1);
+
+        long maxObserved = 0;
+        for (long minute = 0; minute < minutesPerDay; minute++) {
+            for (int user = 0; user < users; user++) {
+                store.revoke(UUID.randomUUID().toString(), store.currentTimeMillis() + TOKEN_LIFETIME_MILLIS);
+            }
+            nanos.addAndGet(TimeUnit.MINUTES.toNanos(1));
+            maxObserved = Math.max(maxObserved, store.size());
+        }
+
+        assertThat(maxObserved).isLessThanOrEqualTo(bound);
+        assertThat(store.size()).isLessThanOrEqualTo(bound);
+    }
+
+    // 시스템 시계가 아니라 Ticker가 흐른 시간만큼 만료되어야 함 (토큰 수명 직전에는 유지, 직후에는 제거)
+    @Test
+    void expiryFollowsTheCacheTicker() {
+        TokenRevocationStore store = new TokenRevocationStore(ticker);
+        store.revoke("jti", store.currentTimeMillis() + TOKEN_LIFETIME_MILLIS);
+
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(TOKEN_LIFETIME_MILLIS - 1000));
+        assertThat(store.isRevoked("jti")).isTrue();
+
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(2000));
+        assertThat(store.isRevoked("jti")).isFalse();
+    }
+
+    // 이미 만료된 토큰은 보관하지 않음
+    @Test
+    void alreadyExpiredTokenIsNotStored() {
+        TokenRevocationStore store = new TokenRevocationStore(ticker);
+        store.revoke("jti", store.currentTimeMillis() - 1);
+
+        assertThat(store.isRevoked("jti")).isFalse();
+        assertThat(store.size()).isZero();
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.moyeothon.Config.OAuth2;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jose.util.Resource;
+import com.nimbusds.jose.util.ResourceRetriever;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 로컬에서 생성한 키 세트로 구글 ID 토큰 검증 확인
+class GoogleIdTokenVerifierTest {
+
+    private static final String CLIENT_ID = "test-client-id";
+
+    private RSAKey currentKey;
+    private final AtomicReference<JWKSet> publishedKeys = new AtomicReference<>();
+    private final AtomicInteger fetches = new AtomicInteger();
+    private GoogleIdTokenVerifier verifier;
+
+    // 운영과 같은 캐시 JWKSource를 쓰고, 키 세트 조회만 게시된 키를 돌려주는 스텁으로 대체
+    @BeforeEach
+    void setUp() throws JOSEException, MalformedURLException {
+        currentKey = new RSAKeyGenerator(2048).keyID("key-1").generate();
+        publishedKeys.set(new JWKSet(currentKey.toPublicJWK()));
+        ResourceRetriever retriever = url -> {
+            fetches.incrementAndGet();
+            return new Resource(publishedKeys.get().toString(), "application/json");
+        };
+        JWKSource<SecurityContext> jwkSource = GoogleIdTokenVerifier.cachingJwkSource(
+                new URL("https://www.googleapis.com/oauth2/v3/certs"), retriever, Duration.ofHours(1), Duration.ofSeconds(1));
+        verifier = new GoogleIdTokenVerifier(jwkSource, CLIENT_ID);
+    }
+
+    @Test
+    void validTokenReturnsProfileClaims() throws JOSEException {
+        Map<String, Object> claims = verifier.verify(sign(currentKey, claims(CLIENT_ID, "https://accounts.google.com", 1)));
+
+        assertThat(claims)
+                .containsEntry("sub", "google-sub")
+                .containsEntry("email", "user@example.com")
+                .containsEntry("name", "구글사용자");
+    }
+
+    @Test
+    void tokenForAnotherClientIsRejected() throws JOSEException {
+        String idToken = sign(currentKey, claims("another-client", "https://accounts.google.com", 1));
+
+        assertThatThrownBy(() -> verifier.verify(idToken)).isInstanceOf(JwtValidationException.class);
+    }
+
+    @Test
+    void expiredTokenIsRejected() throws JOSEException {
+        String idToken = sign(currentKey, claims(CLIENT_ID, "accounts.google.com", -10));
+
+        assertThatThrownBy(() -> verifier.verify(idToken)).isInstanceOf(JwtValidationException.class);
+    }
+
+    @Test
+    void tokenSignedWithUnpublishedKeyIsRejected() throws JOSEException {
+        RSAKey foreignKey = new RSAKeyGenerator(2048).keyID("key-1").generate();
+        String idToken = sign(foreignKey, claims(CLIENT_ID, "https://accounts.google.com", 1));
+
+        assertThatThrownBy(() -> verifier.verify(idToken)).isInstanceOf(BadJwtException.class);
+    }
+
+    @Test
+    void keysAreServedFromCacheUntilAnUnknownKidArrives() throws JOSEException {
+        verifier.verify(sign(currentKey, claims(CLIENT_ID, "https://accounts.google.com", 1)));
+        verifier.verify(sign(currentKey, claims(CLIENT_ID, "https://accounts.google.com", 1)));
+
+        assertThat(fetches.get()).isEqualTo(1);
+    }
+
+    // 캐시 만료 전이라도 캐시에 없는 kid가 오면 키 세트를 다시 조회
+    @Test
+    void rotatedKeyIsAcceptedOnceItIsPublished() throws JOSEException {
+        verifier.verify(sign(currentKey, claims(CLIENT_ID, "https://accounts.google.com", 1)));
+        RSAKey rotatedKey = new RSAKeyGenerator(2048).keyID("key-2").generate();
+        publishedKeys.set(new JWKSet(List.of(currentKey.toPublicJWK(), rotatedKey.toPublicJWK())));
+
+        assertThat(verifier.verify(sign(rotatedKey, claims(CLIENT_ID, "https://accounts.google.com", 1))))
+                .containsEntry("sub", "google-sub");
+        assertThat(verifier.verify(sign(currentKey, claims(CLIENT_ID, "https://accounts.google.com", 1))))
+                .containsEntry("sub", "google-sub");
+        assertThat(fetches.get()).isEqualTo(2);
+    }
+
+    private JWTClaimsSet claims(String audience, String issuer, long expiresInMinutes) {
+        Instant now = Instant.now();
+        return new JWTClaimsSet.Builder()
+                .issuer(issuer)
+                .audience(audience)
+                .subject("google-sub")
+                .claim("email", "user@example.com")
+                .claim("name", "구글사용자")
+                .issueTime(Date.from(now.minus(11, ChronoUnit.MINUTES)))
+                .expirationTime(Date.from(now.plus(expiresInMinutes, ChronoUnit.MINUTES)))
+                .build();
+    }
+
+    private String sign(RSAKey key, JWTClaimsSet claims) throws JOSEException {
+        SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(), claims);
+        jwt.sign(new RSASSASigner(key));
+        return jwt.serialize();
+    }
+}
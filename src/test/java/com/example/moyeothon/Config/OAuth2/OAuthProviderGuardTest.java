@@ -0,0 +1,79 @@
+package com.example.moyeothon.Config.OAuth2;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 서킷 오픈, 벌크헤드 초과 시 원격 호출 없이 503으로 응답하는지 확인
+class OAuthProviderGuardTest {
+
+    private final AtomicInteger remoteCalls = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private BulkheadRegistry bulkheadRegistry;
+    private OAuthProviderGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        guard = new OAuthProviderGuard(circuitBreakerRegistry, bulkheadRegistry, meterRegistry);
+    }
+
+    @Test
+    void callPassesThroughWhenProviderIsHealthy() {
+        assertThat(guard.call("kakao", this::remoteCall)).isEqualTo("ok");
+        assertThat(remoteCalls.get()).isEqualTo(1);
+        assertThat(calls("kakao", "success")).isEqualTo(1);
+    }
+
+    @Test
+    void openCircuitIsRejectedWithoutRemoteCall() {
+        circuitBreakerRegistry.circuitBreaker("kakao").transitionToOpenState();
+
+        assertServiceUnavailable("kakao");
+        assertThat(remoteCalls.get()).isZero();
+        assertThat(calls("kakao", "rejected")).isEqualTo(1);
+    }
+
+    @Test
+    void fullBulkheadIsRejectedWithoutRemoteCall() {
+        // 진행 중인 호출이 한도를 모두 사용한 상태
+        assertThat(bulkheadRegistry.bulkhead("google").tryAcquirePermission()).isTrue();
+
+        assertServiceUnavailable("google");
+        assertThat(remoteCalls.get()).isZero();
+        assertThat(calls("google", "rejected")).isEqualTo(1);
+    }
+
+    private void assertServiceUnavailable(String provider) {
+        assertThatThrownBy(() -> guard.call(provider, this::remoteCall))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(e -> ((ResponseStatusException) e).getStatusCode())
+                .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    private String remoteCall() {
+        remoteCalls.incrementAndGet();
+        return "ok";
+    }
+
+    private long calls(String provider, String outcome) {
+        return meterRegistry.get("oauth.provider.calls").tag("provider", provider).tag("outcome", outcome).timer().count();
+    }
+}
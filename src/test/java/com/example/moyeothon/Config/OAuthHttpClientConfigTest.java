@@ -0,0 +1,87 @@
+package com.example.moyeothon.Config;
+
+import com.example.moyeothon.Config.OAuthProperties.OAuthHttpProperties;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 카카오, 구글 대신 로컬 스텁 서버로 커넥션 풀 RestTemplate 동작 확인
+class OAuthHttpClientConfigTest {
+
+    private HttpServer stubServer;
+    private SimpleMeterRegistry meterRegistry;
+    private RestTemplate restTemplate;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stubServer.createContext("/oauth/token", exchange -> {
+            byte[] body = "{\"access_token\":\"stub-token\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        stubServer.createContext("/v2/user/me", exchange -> {
+            try {
+                Thread.sleep(2000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        stubServer.start();
+
+        OAuthHttpProperties properties = new OAuthHttpProperties();
+        properties.setReadTimeout(Duration.ofMillis(300));
+        meterRegistry = new SimpleMeterRegistry();
+        restTemplate = new OAuthHttpClientConfig(properties, meterRegistry)
+                .pooledRestTemplate(new RestTemplateBuilder(), "kakao");
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.stop(0);
+    }
+
+    @Test
+    void reusesPooledConnectionsAcrossCalls() {
+        for (int i = 0; i < 5; i++) {
+            Map<?, ?> response = restTemplate.postForObject(baseUrl() + "/oauth/token", null, Map.class);
+            assertThat(response).containsEntry("access_token", "stub-token");
+        }
+
+        assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.connections")
+                .tag("httpclient", "kakao").tag("state", "available").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    void slowProviderFailsWithinReadTimeout() {
+        long start = System.nanoTime();
+
+        assertThatThrownBy(() -> restTemplate.getForObject(baseUrl() + "/v2/user/me", Map.class))
+                .isInstanceOf(ResourceAccessException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+    }
+
+    private String baseUrl() {
+        return "http://127.0.0.1:" + stubServer.getAddress().getPort();
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.moyeothon.Repository;
+
+import com.example.moyeothon.DTO.BucketDto.RequestDto;
+import com.example.moyeothon.Entity.BucketSearchIndexedEntity;
+import com.example.moyeothon.Entity.BucketSearchTokenEntity;
+import com.example.moyeothon.Entity.BucketlistEntity;
+import com.example.moyeothon.Entity.UserEntity;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class BucketSearchTokenRepositoryTest {
+
+    @Autowired
+    private BucketSearchTokenRepository bucketSearchTokenRepository;
+
+    @Autowired
+    private BucketRepository bucketRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    // 검색어의 모든 토큰을 포함해야 하고, 빈도 합이 큰 순으로 정렬
+    @Test
+    void searchRequiresEveryTokenAndRanksByFrequency() {
+        UserEntity owner = persistUser("owner");
+        BucketlistEntity both = persistBucket(owner, true);
+        BucketlistEntity frequent = persistBucket(owner, true);
+        BucketlistEntity partial = persistBucket(owner, true);
+        persistToken("제주", both, 1);
+        persistToken("여행", both, 1);
+        persistToken("제주", frequent, 3);
+        persistToken("여행", frequent, 2);
+        persistToken("제주", partial, 5);
+        entityManager.flush();
+
+        List<Long> ids = bucketSearchTokenRepository.searchRankedBucketIds(List.of("제주", "여행"), 2, "someone", PageRequest.of(0, 10));
+
+        assertThat(ids).containsExactly(frequent.getId(), both.getId());
+    }
+
+    @Test
+    void privateBucketsAreOnlyFoundByTheirOwner() {
+        UserEntity owner = persistUser("owner");
+        BucketlistEntity hidden = persistBucket(owner, false);
+        persistToken("제주", hidden, 1);
+        entityManager.flush();
+
+        assertThat(bucketSearchTokenRepository.searchRankedBucketIds(List.of("제주"), 1, "someone", PageRequest.of(0, 10))).isEmpty();
+        assertThat(bucketSearchTokenRepository.searchRankedBucketIds(List.of("제주"), 1, "owner", PageRequest.of(0, 10)))
+                .containsExactly(hidden.getId());
+    }
+
+    // 토큰이 없는 버킷리스트도 색인 완료 기록이 있으면 백필 대상에서 제외
+    @Test
+    void bucketsWithoutTokensAreSkippedOnceMarkedIndexed() {
+        UserEntity owner = persistUser("owner");
+        BucketlistEntity tokenized = persistBucket(owner, true);
+        BucketlistEntity empty = persistBucket(owner, true);
+        BucketlistEntity pending = persistBucket(owner, true);
+        persistToken("제주", tokenized, 1);
+        entityManager.persist(new BucketSearchIndexedEntity(empty.getId()));
+        entityManager.flush();
+
+        assertThat(bucketRepository.findUnindexedAfter(0L, PageRequest.of(0, 10)))
+                .extracting(BucketlistEntity::getId)
+                .containsExactly(pending.getId());
+    }
+
+    private void persistToken(String token, BucketlistEntity bucket, int frequency) {
+        entityManager.persist(new BucketSearchTokenEntity(null, token, bucket.getId(), frequency));
+    }
+
+    private BucketlistEntity persistBucket(UserEntity owner, boolean isPublic) {
+        return entityManager.persist(new BucketlistEntity(new RequestDto("제목", "내용", isPublic), owner));
+    }
+
+    private UserEntity persistUser(String uid) {
+        return entityManager.persist(UserEntity.builder()
+                .uid(uid)
+                .nickname(uid)
+                .provider("normal")
+                .build());
+    }
+}
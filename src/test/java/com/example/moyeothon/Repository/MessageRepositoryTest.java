@@ -0,0 +1,221 @@
+package com.example.moyeothon.Repository;
+
+import com.example.moyeothon.DTO.BucketDto.RequestDto;
+import com.example.moyeothon.DTO.MessageDTO;
+import com.example.moyeothon.Entity.BucketlistEntity;
+import com.example.moyeothon.Entity.MessageEntity;
+import com.example.moyeothon.Entity.MessageSearchTokenEntity;
+import com.example.moyeothon.Entity.UserEntity;
+import com.example.moyeothon.Enum.MessageStatus;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class MessageRepositoryTest {
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 25})
+    void listingRunsFixedStatementCountRegardlessOfMessageCount(int messageCount) {
+        UserEntity owner = persistUser("owner");
+        UserEntity writer = persistUser("writer");
+        BucketlistEntity bucket = entityManager.persist(new BucketlistEntity(new RequestDto("제목", "내용", true), owner));
+        for (int i = 0; i < messageCount; i++) {
+            entityManager.persist(MessageEntity.builder()
+                    .content("쪽지 " + i)
+                    .createTime(LocalDateTime.now())
+                    .sender(writer)
+                    .receiver(owner)
+                    .bucketList(bucket)
+                    .status(MessageStatus.안읽음)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        List<MessageDTO> received = messageRepository.findAllWithAssociationsByReceiverUid("owner").stream()
+                .map(MessageDTO::entityToDTO)
+                .toList();
+        List<MessageDTO> all = messageRepository.findAllWithAssociationsByParticipantUid("writer").stream()
+                .map(MessageDTO::entityToDTO)
+                .toList();
+
+        assertThat(received).hasSize(messageCount);
+        assertThat(all).hasSize(messageCount);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 25})
+    void bucketDeleteRemovesOnlyThatBucketsMessagesInOneStatement(int messageCount) {
+        UserEntity owner = persistUser("owner");
+        UserEntity writer = persistUser("writer");
+        BucketlistEntity target = entityManager.persist(new BucketlistEntity(new RequestDto("제목", "내용", true), owner));
+        BucketlistEntity other = entityManager.persist(new BucketlistEntity(new RequestDto("다른 제목", "다른 내용", true), owner));
+        for (int i = 0; i < messageCount; i++) {
+            persistMessage(writer, owner, target, "쪽지 " + i);
+        }
+        MessageEntity kept = persistMessage(writer, owner, other, "남는 쪽지");
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        int deleted = messageRepository.deleteByBucketListId(target.getId());
+
+        assertThat(deleted).isEqualTo(messageCount);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(messageRepository.findAll()).extracting(MessageEntity::getId).containsExactly(kept.getId());
+    }
+
+    @Test
+    void stampFanOutFindsOnlyAffectedParticipants() {
+        UserEntity owner = persistUser("owner");
+        UserEntity writer = persistUser("writer");
+        UserEntity friend = persistUser("friend");
+        UserEntity stranger = persistUser("stranger");
+        BucketlistEntity ownersBucket = entityManager.persist(new BucketlistEntity(new RequestDto("제목", "내용", true), owner));
+        BucketlistEntity strangersBucket = entityManager.persist(new BucketlistEntity(new RequestDto("다른 제목", "다른 내용", true), stranger));
+        persistMessage(writer, friend, ownersBucket, "소유자 버킷리스트에 달린 쪽지");
+        persistMessage(owner, stranger, strangersBucket, "소유자가 보낸 쪽지");
+        persistMessage(stranger, friend, strangersBucket, "무관한 쪽지");
+        entityManager.flush();
+
+        assertThat(messageRepository.findParticipantUidsByBucketListId(ownersBucket.getId()))
+                .containsExactlyInAnyOrder("writer", "friend");
+        assertThat(messageRepository.findCorrespondentUids(owner.getId()))
+                .containsExactlyInAnyOrder("writer", "friend", "stranger");
+        assertThat(messageRepository.findCorrespondentUids(writer.getId()))
+                .containsExactly("friend");
+    }
+
+    @Test
+    void bulkReadUpdatesOnlyTheReceiversUnreadMessages() {
+        UserEntity owner = persistUser("owner");
+        UserEntity writer = persistUser("writer");
+        BucketlistEntity target = entityManager.persist(new BucketlistEntity(new RequestDto("제목", "내용", true), owner));
+        BucketlistEntity other = entityManager.persist(new BucketlistEntity(new RequestDto("다른 제목", "다른 내용", true), owner));
+        MessageEntity byId = persistMessage(writer, owner, other, "id로 읽을 쪽지");
+        MessageEntity othersById = persistMessage(owner, writer, other, "다른 유저가 받은 쪽지");
+        MessageEntity inBucket = persistMessage(writer, owner, target, "버킷리스트로 읽을 쪽지");
+        MessageEntity othersInBucket = persistMessage(owner, writer, target, "같은 버킷리스트로 다른 유저가 받은 쪽지");
+        MessageEntity early = persistMessage(writer, owner, other, "기준 시각 이전 쪽지");
+        entityManager.flush();
+        LocalDateTime before = LocalDateTime.now().plusSeconds(1);
+        MessageEntity later = entityManager.persist(MessageEntity.builder()
+                .content("기준 시각 이후 쪽지")
+                .createTime(before.plusMinutes(1))
+                .sender(writer)
+                .receiver(owner)
+                .bucketList(other)
+                .status(MessageStatus.안읽음)
+                .build());
+        entityManager.flush();
+
+        assertThat(messageRepository.updateStatusForReceiverByIds(owner.getId(), List.of(byId.getId(), othersById.getId()),
+                MessageStatus.안읽음, MessageStatus.읽음)).isEqualTo(1);
+        assertThat(messageRepository.updateStatusForReceiverByBucket(owner.getId(), target.getId(),
+                MessageStatus.안읽음, MessageStatus.읽음)).isEqualTo(1);
+        entityManager.clear();
+
+        assertThat(status(byId)).isEqualTo(MessageStatus.읽음);
+        assertThat(status(inBucket)).isEqualTo(MessageStatus.읽음);
+        assertThat(status(othersById)).isEqualTo(MessageStatus.안읽음);
+        assertThat(status(othersInBucket)).isEqualTo(MessageStatus.안읽음);
+        assertThat(status(early)).isEqualTo(MessageStatus.안읽음);
+
+        // 이미 읽은 쪽지는 다시 세지 않고, 기준 시각 이후 쪽지와 다른 유저의 쪽지는 그대로 둠
+        assertThat(messageRepository.updateStatusForReceiverBefore(owner.getId(), before,
+                MessageStatus.안읽음, MessageStatus.읽음)).isEqualTo(1);
+        entityManager.clear();
+
+        assertThat(status(early)).isEqualTo(MessageStatus.읽음);
+        assertThat(status(later)).isEqualTo(MessageStatus.안읽음);
+        assertThat(status(othersById)).isEqualTo(MessageStatus.안읽음);
+    }
+
+    // 검색은 해당 유저의 토큰만 읽고, 토큰이 모두 있어도 검색어를 그대로 포함하지 않는 쪽지는 제외
+    @Test
+    void searchMatchesOnlyTheUsersIndexedMessagesContainingTheKeyword() {
+        UserEntity owner = persistUser("owner");
+        UserEntity writer = persistUser("writer");
+        UserEntity stranger = persistUser("stranger");
+        BucketlistEntity bucket = entityManager.persist(new BucketlistEntity(new RequestDto("제목", "내용", true), owner));
+        MessageEntity received = persistMessage(writer, owner, bucket, "제주도 여행");
+        MessageEntity scrambled = persistMessage(owner, writer, bucket, "주도 제주");
+        MessageEntity strangers = persistMessage(stranger, writer, bucket, "제주도");
+        index(received, "제주", "주도", "여행");
+        index(scrambled, "주도", "제주");
+        index(strangers, "제주", "주도");
+        entityManager.flush();
+
+        List<String> tokens = List.of("제주", "주도");
+        assertThat(messageRepository.findMatching(owner.getId(), tokens, tokens.size(), "%제주도%", PageRequest.of(0, 10)))
+                .extracting(MessageEntity::getId).containsExactly(received.getId());
+        assertThat(messageRepository.findMatching(writer.getId(), tokens, tokens.size(), "%제주도%", PageRequest.of(0, 10)))
+                .extracting(MessageEntity::getId).containsExactly(strangers.getId(), received.getId());
+        assertThat(messageRepository.findMatching(owner.getId(), List.of("여행", "행지"), 2, "%여행지%", PageRequest.of(0, 10)))
+                .isEmpty();
+    }
+
+    // 발신자와 수신자 각각의 토큰 기록
+    private void index(MessageEntity message, String... tokens) {
+        for (Long userId : List.of(message.getSender().getId(), message.getReceiver().getId())) {
+            for (String token : tokens) {
+                entityManager.persist(new MessageSearchTokenEntity(null, userId, token, message.getId()));
+            }
+        }
+    }
+
+    private MessageStatus status(MessageEntity message) {
+        return messageRepository.findById(message.getId()).orElseThrow().getStatus();
+    }
+
+    private MessageEntity persistMessage(UserEntity sender, UserEntity receiver, BucketlistEntity bucket, String content) {
+        return entityManager.persist(MessageEntity.builder()
+                .content(content)
+                .createTime(LocalDateTime.now())
+                .sender(sender)
+                .receiver(receiver)
+                .bucketList(bucket)
+                .status(MessageStatus.안읽음)
+                .build());
+    }
+
+    private UserEntity persistUser(String uid) {
+        return entityManager.persist(UserEntity.builder()
+                .uid(uid)
+                .nickname(uid)
+                .provider("normal")
+                .build());
+    }
+}
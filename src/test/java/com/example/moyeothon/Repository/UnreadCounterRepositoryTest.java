@@ -0,0 +1,47 @@
+package com.example.moyeothon.Repository;
+
+import com.example.moyeothon.Entity.UnreadCounterEntity;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class UnreadCounterRepositoryTest {
+
+    @Autowired
+    private UnreadCounterRepository unreadCounterRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void adjustIsAtomicAndNeverGoesNegative() {
+        entityManager.persistAndFlush(new UnreadCounterEntity(1L, 2L));
+
+        assertThat(unreadCounterRepository.adjust(1L, 1)).isEqualTo(1);
+        assertThat(unreadCounterRepository.findUnreadCountByUserId(1L)).isEqualTo(3L);
+
+        unreadCounterRepository.adjust(1L, -5);
+        assertThat(unreadCounterRepository.findUnreadCountByUserId(1L)).isZero();
+    }
+
+    @Test
+    void adjustWithoutCounterIsNoOp() {
+        assertThat(unreadCounterRepository.adjust(2L, 1)).isZero();
+        assertThat(unreadCounterRepository.findUnreadCountByUserId(2L)).isNull();
+    }
+
+    @Test
+    void reconcileSkipsCountersChangedSinceTheyWereRead() {
+        entityManager.persistAndFlush(new UnreadCounterEntity(3L, 4L));
+
+        unreadCounterRepository.adjust(3L, 1);
+
+        assertThat(unreadCounterRepository.reconcile(3L, 4L, 0L)).isZero();
+        assertThat(unreadCounterRepository.reconcile(3L, 5L, 1L)).isEqualTo(1);
+        assertThat(unreadCounterRepository.findUnreadCountByUserId(3L)).isEqualTo(1L);
+    }
+}
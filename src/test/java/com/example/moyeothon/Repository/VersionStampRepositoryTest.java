@@ -0,0 +1,45 @@
+package com.example.moyeothon.Repository;
+
+import com.example.moyeothon.Entity.VersionStampEntity;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+class VersionStampRepositoryTest {
+
+    @Autowired
+    private VersionStampRepository versionStampRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void bumpIncrementsOnlyExistingKeys() {
+        entityManager.persistAndFlush(new VersionStampEntity("buckets", 3L));
+
+        assertThat(versionStampRepository.bump(List.of("buckets", "messages:nobody"))).isEqualTo(1);
+        entityManager.clear();
+
+        assertThat(versionStampRepository.findAllByKeys(List.of("buckets", "messages:nobody")))
+                .extracting(VersionStampEntity::getVersion)
+                .containsExactly(4L);
+    }
+
+    @Test
+    void insertInitialNeverOverwritesAnExistingVersion() {
+        entityManager.persistAndFlush(new VersionStampEntity("users", 7L));
+
+        assertThatThrownBy(() -> {
+            versionStampRepository.insertInitial("users");
+            entityManager.flush();
+        }).isInstanceOf(DataIntegrityViolationException.class);
+    }
+}
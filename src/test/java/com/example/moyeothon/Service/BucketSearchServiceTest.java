@@ -0,0 +1,42 @@
+package com.example.moyeothon.Service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BucketSearchServiceTest {
+
+    @Test
+    void indexTokensAreSyllableUnigramsAndBigramsWithFrequency() {
+        Map<String, Integer> tokens = BucketSearchService.tokenizeForIndex("제주도 여행, 제주 맛집!");
+
+        assertThat(tokens)
+                .containsEntry("제주", 2)
+                .containsEntry("주도", 1)
+                .containsEntry("제", 2)
+                .containsEntry("여행", 1)
+                .containsEntry("맛집", 1)
+                .doesNotContainKey("도여");
+    }
+
+    @Test
+    void indexTokensAreNormalizedAndLowercased() {
+        assertThat(BucketSearchService.tokenizeForIndex("ＡＢ"))
+                .containsOnlyKeys("a", "b", "ab");
+    }
+
+    @Test
+    void queryTokensAreBigramsExceptForSingleSyllableWords() {
+        assertThat(BucketSearchService.tokenizeForQuery("제주도 섬"))
+                .containsExactly("제주", "주도", "섬");
+    }
+
+    @Test
+    void blankInputHasNoTokens() {
+        assertThat(BucketSearchService.tokenizeForIndex("  ")).isEmpty();
+        assertThat(BucketSearchService.tokenizeForQuery(null)).isEmpty();
+        assertThat(BucketSearchService.tokenizeForQuery("!?")).isEmpty();
+    }
+}
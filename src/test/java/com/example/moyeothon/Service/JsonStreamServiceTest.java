@@ -0,0 +1,92 @@
+package com.example.moyeothon.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+class JsonStreamServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private JsonStreamService jsonStreamService;
+
+    @BeforeEach
+    void setUp() {
+        jsonStreamService = new JsonStreamService(new ObjectMapper(), entityManager.getEntityManager(), transactionManager, 1);
+    }
+
+    @Test
+    void jsonFormatWritesSingleArray() throws IOException {
+        assertThat(write(MediaType.APPLICATION_JSON, 1, 2)).isEqualTo("[{\"id\":1},{\"id\":2}]");
+        assertThat(write(MediaType.APPLICATION_JSON)).isEqualTo("[]");
+    }
+
+    @Test
+    void ndjsonFormatWritesOneValuePerLine() throws IOException {
+        assertThat(write(MediaType.APPLICATION_NDJSON, 1, 2)).isEqualTo("{\"id\":1}\n{\"id\":2}\n");
+        assertThat(write(MediaType.APPLICATION_NDJSON)).isEmpty();
+    }
+
+    @Test
+    void negotiateAndETagFollowTheAcceptHeader() {
+        assertThat(JsonStreamService.negotiate("application/x-ndjson")).isEqualTo(MediaType.APPLICATION_NDJSON);
+        assertThat(JsonStreamService.negotiate("*/*")).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(JsonStreamService.negotiate(null)).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(JsonStreamService.eTag("\"3\"", MediaType.APPLICATION_JSON)).isEqualTo("\"3-json\"");
+        assertThat(JsonStreamService.eTag("\"3\"", MediaType.APPLICATION_NDJSON)).isEqualTo("\"3-ndjson\"");
+    }
+
+    // 본문을 쓰는 중에 들어온 스트림은 동시 스트림 수를 넘으므로 503, 앞선 응답을 다 쓰면 다시 허용
+    @Test
+    void concurrentStreamsAreCapped() throws IOException {
+        StreamingResponseBody second = jsonStreamService.stream(Stream::<Integer>empty, Function.identity(), MediaType.APPLICATION_JSON);
+        StreamingResponseBody first = jsonStreamService.stream(() -> {
+            assertThatThrownBy(() -> second.writeTo(new ByteArrayOutputStream()))
+                    .isInstanceOf(ResponseStatusException.class)
+                    .extracting(e -> ((ResponseStatusException) e).getStatusCode())
+                    .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+            return Stream.of(1);
+        }, id -> Map.of("id", id), MediaType.APPLICATION_JSON);
+
+        first.writeTo(new ByteArrayOutputStream());
+        assertThat(write(MediaType.APPLICATION_JSON, 1)).isEqualTo("[{\"id\":1}]");
+    }
+
+    // 비동기 처리 전에 요청이 끝나 본문이 실행되지 않아도 허용량이 줄지 않음
+    @Test
+    void discardedBodyDoesNotHoldAPermit() throws IOException {
+        jsonStreamService.stream(Stream::<Integer>empty, Function.identity(), MediaType.APPLICATION_JSON);
+        jsonStreamService.stream(Stream::<Integer>empty, Function.identity(), MediaType.APPLICATION_NDJSON);
+
+        assertThat(write(MediaType.APPLICATION_JSON, 1)).isEqualTo("[{\"id\":1}]");
+    }
+
+    private String write(MediaType format, Integer... ids) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        jsonStreamService.stream(() -> Stream.of(ids), id -> Map.of("id", id), format).writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.moyeothon.Service;
+
+import com.example.moyeothon.DTO.MessageDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MessagePushHubTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // 전송 작업을 실행하지 않고 쌓아만 두어 구독자 버퍼가 비워지지 않는 느린 연결을 재현
+    @Test
+    void subscriberIsEvictedWhenItsBufferOverflows() {
+        MessagePushHub hub = hub(2, 5, new StalledExecutor(false));
+        hub.subscribe(1L);
+
+        hub.publish(1L, message(1L));
+        hub.publish(1L, message(2L));
+        assertThat(subscribers()).isEqualTo(1);
+
+        hub.publish(1L, message(3L));
+        assertThat(subscribers()).isZero();
+        assertThat(evicted()).isEqualTo(1);
+    }
+
+    @Test
+    void subscriberIsEvictedWhenSenderQueueIsFull() {
+        MessagePushHub hub = hub(64, 5, new StalledExecutor(true));
+        hub.subscribe(1L);
+
+        hub.publish(1L, message(1L));
+
+        assertThat(subscribers()).isZero();
+        assertThat(evicted()).isEqualTo(1);
+    }
+
+    @Test
+    void oldestSubscriptionIsClosedWhenPerUserCapIsExceeded() {
+        MessagePushHub hub = hub(64, 2, new StalledExecutor(false));
+        hub.subscribe(1L);
+        hub.subscribe(1L);
+        hub.subscribe(1L);
+        hub.subscribe(2L);
+
+        assertThat(subscribers()).isEqualTo(3);
+        assertThat(evicted()).isZero();
+    }
+
+    private MessagePushHub hub(int bufferSize, int maxSubscriptionsPerUser, StalledExecutor sender) {
+        return new MessagePushHub(meterRegistry, Duration.ofMinutes(1), Duration.ofSeconds(1),
+                bufferSize, maxSubscriptionsPerUser, sender);
+    }
+
+    private double subscribers() {
+        return meterRegistry.get("message.push.subscribers").gauge().value();
+    }
+
+    private double evicted() {
+        return meterRegistry.get("message.push.evicted").counter().count();
+    }
+
+    private MessageDTO message(Long id) {
+        return MessageDTO.builder().id(id).build();
+    }
+
+    private static final class StalledExecutor extends AbstractExecutorService {
+        private final boolean rejecting;
+        private final List<Runnable> tasks = new ArrayList<>();
+
+        private StalledExecutor(boolean rejecting) {
+            this.rejecting = rejecting;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            if (rejecting) {
+                throw new RejectedExecutionException("전송 대기열 초과");
+            }
+            tasks.add(command);
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return tasks;
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+}